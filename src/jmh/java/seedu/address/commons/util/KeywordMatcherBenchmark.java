@@ -0,0 +1,78 @@
+package seedu.address.commons.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Compares matching keywords against 100,000 names with {@code StringUtil#containsWordIgnoreCase} and
+ * {@code KeywordMatcher}. Run with {@code -prof gc} to also compare their allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordMatcherBenchmark {
+
+    private static final int NAME_COUNT = 100_000;
+    private static final List<String> KEYWORDS = List.of("alex", "ROY", "nobody");
+
+    private String[] names;
+    private KeywordMatcher keywordMatcher;
+
+    /**
+     * Fills {@code names} with the names of synthetic persons.
+     */
+    @Setup
+    public void setUp() {
+        Person[] persons = SampleDataUtil.getSyntheticPersons(NAME_COUNT);
+        names = new String[NAME_COUNT];
+        for (int i = 0; i < NAME_COUNT; i++) {
+            names[i] = persons[i].getName().fullName;
+        }
+        keywordMatcher = new KeywordMatcher(KEYWORDS);
+    }
+
+    /**
+     * Counts the matching names in the way the find predicates used to, splitting every name for every keyword.
+     */
+    @Benchmark
+    public int containsWordIgnoreCase() {
+        int matches = 0;
+        for (String name : names) {
+            for (String keyword : KEYWORDS) {
+                if (StringUtil.containsWordIgnoreCase(name, keyword)) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int keywordMatcher() {
+        int matches = 0;
+        for (String name : names) {
+            if (keywordMatcher.matches(name)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.list;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.FlagStatus;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures the overhead that {@code PersonList} adds to every command, which should not grow linearly with the
+ * number of persons: getting the sorted persons, and keeping them sorted when one person is flagged or unflagged.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ObservableList<Person> persons;
+    private PersonList personList;
+    private int middle;
+    private Person unflaggedPerson;
+    private Person flaggedPerson;
+
+    /**
+     * Fills the list with {@code size} unflagged persons, and prepares a flagged copy of the person in the middle.
+     */
+    @Setup
+    public void setUp() {
+        persons = FXCollections.observableArrayList(SampleDataUtil.getSyntheticPersons(size));
+        personList = new PersonList(persons);
+        middle = size / 2;
+        unflaggedPerson = persons.get(middle);
+        flaggedPerson = new Person(unflaggedPerson.getName(), unflaggedPerson.getPhone(),
+                unflaggedPerson.getOtherPhones(), unflaggedPerson.getEmail(), unflaggedPerson.getAddress(),
+                unflaggedPerson.getTags(), unflaggedPerson.getMeetings(), new FlagStatus(true));
+    }
+
+    /**
+     * Gets the sorted persons and the first of them, as every command that refers to a displayed person does.
+     */
+    @Benchmark
+    public Person getPersonListThenGet() {
+        return personList.getPersonList().get(0);
+    }
+
+    /**
+     * Flags the person in the middle and unflags them again, moving them to the top of the sorted persons and back.
+     */
+    @Benchmark
+    public Person flagThenUnflag() {
+        persons.set(middle, flaggedPerson);
+        persons.set(middle, unflaggedPerson);
+        return personList.getPersonList().get(0);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how long it takes to parse a valid command for every command word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "add n=John Doe mn=98765432 on=9999 (Office) e=johnd@example.com a=Blk 30 Geylang Street 29 t=colleague",
+        "edit 1 mn=91234567 e=johndoe@example.com",
+        "delete 1",
+        "clear",
+        "find n=Alex t=colleagues",
+        "list",
+        "exit",
+        "help",
+        "addmt p=1 m=Financial advice sharing v=AMK Hub w=2030-11-01 1600",
+        "deletemt p=1 i=1",
+        "editmt p=1 i=2 v=Starbucks at J8 w=2030-10-05 1600",
+        "flag 1",
+        "unflag 1",
+        "findmt townhall meeting"
+    })
+    private String userInput;
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return addressBookParser.parseCommand(userInput);
+    }
+}
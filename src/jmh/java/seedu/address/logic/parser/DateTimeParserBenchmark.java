@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how long it takes to parse meeting datetimes in the first and the last of the accepted formats, and to
+ * format them for display.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeParserBenchmark {
+
+    @Param({"12-01-2025 1400", "12-01-2025 14:00"})
+    private String dateTime;
+
+    private final LocalDateTime parsedDateTime = LocalDateTime.of(2025, 1, 12, 14, 0);
+
+    @Benchmark
+    public LocalDateTime parseDateTime() throws ParseException {
+        return DateTimeParser.parseDateTime(dateTime);
+    }
+
+    @Benchmark
+    public String format() {
+        return DateTimeParser.format(parsedDateTime);
+    }
+}
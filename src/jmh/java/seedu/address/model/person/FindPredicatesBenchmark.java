@@ -0,0 +1,91 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures how long the predicates of {@code find} and {@code findmt} take to test every person in the address book,
+ * and how long the same searches take when answered from a {@code PersonIndex}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindPredicatesBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Person[] persons;
+    private PersonIndex personIndex;
+    private final NameContainsKeywordsPredicate namePredicate =
+            new NameContainsKeywordsPredicate(List.of("alex", "roy"));
+    private final TagContainsKeywordPredicate tagPredicate = new TagContainsKeywordPredicate(List.of("client"));
+    private final NumberContainsKeywordPredicate numberPredicate = new NumberContainsKeywordPredicate("8000");
+    private final MeetingNameContainsKeywordsPredicate meetingNamePredicate =
+            new MeetingNameContainsKeywordsPredicate(List.of("townhall"));
+
+    /**
+     * Creates {@code size} synthetic persons and indexes them.
+     */
+    @Setup
+    public void setUp() {
+        persons = SampleDataUtil.getSyntheticPersons(size);
+        personIndex = new PersonIndex();
+        for (Person person : persons) {
+            personIndex.add(person);
+        }
+    }
+
+    @Benchmark
+    public int name() {
+        return countMatches(namePredicate);
+    }
+
+    @Benchmark
+    public int tag() {
+        return countMatches(tagPredicate);
+    }
+
+    @Benchmark
+    public int number() {
+        return countMatches(numberPredicate);
+    }
+
+    @Benchmark
+    public int meetingName() {
+        return countMatches(meetingNamePredicate);
+    }
+
+    @Benchmark
+    public int nameIndexed() {
+        return countMatches(personIndex.bind(namePredicate));
+    }
+
+    private int countMatches(Predicate<Person> predicate) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
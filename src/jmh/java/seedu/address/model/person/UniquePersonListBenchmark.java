@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures how the cost of identity lookups and updates in {@code UniquePersonList} scales with its size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList uniquePersonList;
+    private Person lastPerson;
+    private Person absentPerson;
+
+    /**
+     * Fills the list with {@code size} persons, keeping one more person aside that is not in the list.
+     */
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(Arrays.asList(SampleDataUtil.getSyntheticPersons(size + 1)));
+        absentPerson = persons.remove(size);
+        lastPerson = persons.get(size - 1);
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return uniquePersonList.contains(lastPerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return uniquePersonList.contains(absentPerson);
+    }
+
+    /**
+     * Adds a person to the end of the list and removes it again, leaving the list unchanged.
+     */
+    @Benchmark
+    public UniquePersonList addThenRemoveLast() {
+        uniquePersonList.add(absentPerson);
+        uniquePersonList.remove(absentPerson);
+        return uniquePersonList;
+    }
+
+    @Benchmark
+    public UniquePersonList setPerson() {
+        uniquePersonList.setPerson(lastPerson, lastPerson);
+        return uniquePersonList;
+    }
+
+    @Benchmark
+    public UniquePersonList setPersons() {
+        uniquePersonList.setPersons(persons);
+        return uniquePersonList;
+    }
+}
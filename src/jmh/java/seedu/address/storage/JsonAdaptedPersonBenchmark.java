@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures how long it takes to validate and convert 100,000 persons read from the data file, without the time
+ * taken to read the file, which is mostly spent in the validators of the model classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonAdaptedPersonBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+
+    private JsonAdaptedPerson[] jsonAdaptedPersons;
+
+    /**
+     * Adapts {@code PERSON_COUNT} synthetic persons, as if they had been read from the data file.
+     */
+    @Setup
+    public void setUp() {
+        Person[] persons = SampleDataUtil.getSyntheticPersons(PERSON_COUNT);
+        jsonAdaptedPersons = new JsonAdaptedPerson[PERSON_COUNT];
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            jsonAdaptedPersons[i] = new JsonAdaptedPerson(persons[i]);
+        }
+    }
+
+    @Benchmark
+    public Person[] toModelType() throws IllegalValueException {
+        Person[] persons = new Person[PERSON_COUNT];
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons[i] = jsonAdaptedPersons[i].toModelType();
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.FlagStatus;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures how long it takes to load the address book data file at startup, and to save it after a change.
+ * {@link #readJsonTree()} reads the whole file before converting it, as loading used to, for comparison.
+ * {@link #saveAllPersons()} serializes every person on each save, as saving used to, for comparison.
+ * Run with {@code -prof gc} to compare the memory allocated by each approach.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path filePath;
+    private Path saveFilePath;
+    private JsonAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    /**
+     * Saves an address book with {@code size} persons to a temporary data file.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        filePath = Files.createTempFile("addressbook", ".json");
+        saveFilePath = Files.createTempFile("savedaddressbook", ".json");
+        storage = new JsonAddressBookStorage(filePath);
+        addressBook = SampleDataUtil.getSyntheticAddressBook(size);
+        storage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(saveFilePath);
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        storage.saveAddressBook(addressBook, saveFilePath);
+        return saveFilePath;
+    }
+
+    /**
+     * Flags or unflags the first person, then saves the address book.
+     */
+    @Benchmark
+    public Path saveAfterEdit() throws IOException {
+        Person person = addressBook.getPersonList().get(0);
+        addressBook.setPerson(person, new Person(person.getName(), person.getPhone(), person.getOtherPhones(),
+                person.getEmail(), person.getAddress(), person.getTags(), person.getMeetings(),
+                new FlagStatus(!person.isFlagged())));
+        storage.saveAddressBook(addressBook, saveFilePath);
+        return saveFilePath;
+    }
+
+    @Benchmark
+    public Path saveAllPersons() throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), saveFilePath);
+        return saveFilePath;
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readStreaming() throws Exception {
+        return storage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readJsonTree() throws Exception {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+    }
+}
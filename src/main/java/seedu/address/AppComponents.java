@@ -0,0 +1,264 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfiler;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AddressBookLoader;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookJournal;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The components of the application other than the UI, wired together from the config file.
+ * This class does not depend on the JavaFX UI toolkit, so that the application can also be run without a GUI.
+ */
+public class AppComponents {
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    /**
+     * Initializes the components using the config file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public AppComponents(Path configFilePath) {
+        this(configFilePath, true);
+    }
+
+    /**
+     * Initializes the components as in {@link #AppComponents(Path)}, but only loads the address book in the
+     * background if {@code isBackgroundLoadAllowed} is true and it is enabled in the storage settings.
+     * Commands that need the whole address book are rejected while it is loaded in the background, so this should
+     * only be allowed when the user can retry them.
+     */
+    public AppComponents(Path configFilePath, boolean isBackgroundLoadAllowed) {
+        StartupProfiler profiler = StartupProfiler.getInstance();
+        config = profiler.measure("initConfig", () -> initConfig(configFilePath));
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = profiler.measure("initPrefs", () -> initPrefs(userPrefsStorage));
+        storage = profiler.measure("initStorage", () ->
+                initStorage(initAddressBookStorage(userPrefs), userPrefsStorage, userPrefs));
+
+        if (isBackgroundLoadAllowed && userPrefs.getStorageSettings().isBackgroundLoadEnabled()) {
+            // the address book is loaded after the application is shown, so startup does not depend on its size
+            model = profiler.measure("ModelManager", () -> new ModelManager(new AddressBook(), userPrefs));
+            AddressBookLoader addressBookLoader = new AddressBookLoader(model, loadedPersonsConsumer ->
+                    profiler.measure("readAddressBook", () -> readInitialData(storage, loadedPersonsConsumer)));
+            logic = new LogicManager(model, storage, addressBookLoader);
+            addressBookLoader.start();
+        } else {
+            model = initModelManager(storage, userPrefs);
+            logic = new LogicManager(model, storage);
+        }
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Saves the address book data that has not been saved yet, and the user prefs.
+     */
+    public void stop() {
+        try {
+            storage.flushAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns an {@code AddressBookStorage} for the data file in {@code userPrefs}, in the data file format
+     * selected in the storage settings of {@code userPrefs}.
+     */
+    private static AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.getStorageSettings().getDataFileFormat() == DataFileFormat.BINARY) {
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        }
+        return new JsonAddressBookStorage(addressBookFilePath);
+    }
+
+    /**
+     * Returns a {@code StorageManager} for {@code addressBookStorage} and {@code userPrefsStorage}, which journals
+     * changes to the address book and saves them in the background if that is enabled in the storage settings of
+     * {@code userPrefs}.
+     */
+    private static Storage initStorage(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            ReadOnlyUserPrefs userPrefs) {
+        StorageSettings storageSettings = userPrefs.getStorageSettings();
+        JsonAddressBookJournal journal = null;
+        if (storageSettings.isJournalEnabled()) {
+            Path journalFilePath =
+                    JsonAddressBookJournal.getJournalFilePath(addressBookStorage.getAddressBookFilePath());
+            logger.info("Using journal file : " + journalFilePath);
+            journal = new JsonAddressBookJournal(journalFilePath);
+        }
+        return new StorageManager(addressBookStorage, userPrefsStorage, journal,
+                storageSettings.isBackgroundSaveEnabled());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        StartupProfiler profiler = StartupProfiler.getInstance();
+        ReadOnlyAddressBook initialData =
+                profiler.measure("readAddressBook", () -> readInitialData(storage, unused -> {}));
+        return profiler.measure("ModelManager", () -> new ModelManager(initialData, userPrefs));
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book, passing the persons in its data file to
+     * {@code loadedPersonsConsumer} in chunks while it is being read. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private static ReadOnlyAddressBook readInitialData(Storage storage, Consumer<List<Person>> loadedPersonsConsumer) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBookInChunks(loadedPersonsConsumer);
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+        return initialData;
+    }
+
+    private static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
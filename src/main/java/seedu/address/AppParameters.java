@@ -6,13 +6,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
 
-import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents the parsed command-line parameters given to the application.
+ * This class does not depend on JavaFX, so that it can also be used when the application is run without a GUI.
  */
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
@@ -28,11 +28,10 @@ public class AppParameters {
     }
 
     /**
-     * Parses the application command-line parameters.
+     * Parses the named command-line parameters, i.e. those of the form {@code --name=value}, keyed by name.
      */
-    public static AppParameters parse(Application.Parameters parameters) {
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -0,0 +1,111 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupProfiler;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without a GUI, executing the commands in a script file, or read from standard input, one
+ * per line, and printing the result of each.
+ * Unlike {@link Main}, this entry point does not start the JavaFX UI toolkit, so it starts quickly and can run on
+ * servers without a display.
+ */
+public class HeadlessMain {
+
+    public static final String MESSAGE_USAGE = "Usage: HeadlessMain [--config=CONFIG_FILE] [SCRIPT_FILE]\n"
+            + "Executes the commands in SCRIPT_FILE, or read from standard input if it is not given, one per line.";
+    public static final String COMMENT_MARKER = "#";
+    public static final String ERROR_PREFIX = "Error: ";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    /**
+     * Runs the commands as described in {@link #MESSAGE_USAGE}.
+     * Exits with a non-zero status if any command failed.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+        if (unnamedParameters.size() > 1) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        logger.info("=============================[ Initializing AddressBook (headless) ]===============");
+        // the script is run as soon as the application starts, so the address book is loaded before running it
+        AppComponents components = new AppComponents(AppParameters.parse(namedParameters).getConfigPath(), false);
+        StartupProfiler.getInstance().finish();
+        Logic logic = components.getLogic();
+        logic.setSaveFailureHandler(message -> System.err.println(ERROR_PREFIX + message));
+
+        int failureCount;
+        try (BufferedReader in = unnamedParameters.isEmpty()
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(unnamedParameters.get(0)), StandardCharsets.UTF_8)) {
+            failureCount = run(logic, in, System.out);
+        } catch (IOException | InvalidPathException e) {
+            System.err.println(ERROR_PREFIX + "Could not read the script: " + e.getMessage());
+            failureCount = 1;
+        } finally {
+            logger.info("============================ [ Stopping AddressBook (headless) ] =================");
+            components.stop();
+        }
+        System.exit(failureCount == 0 ? 0 : 1);
+    }
+
+    /**
+     * Executes the commands read from {@code in}, one per line, with {@code logic}, and prints the result of each to
+     * {@code out}. Blank lines and lines starting with {@link #COMMENT_MARKER} are skipped, and execution stops
+     * after a command that exits the application.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if there was an error reading from {@code in}.
+     */
+    public static int run(Logic logic, BufferedReader in, PrintStream out) throws IOException {
+        int failureCount = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                out.println(ERROR_PREFIX + e.getMessage());
+                failureCount++;
+            }
+        }
+        return failureCount;
+    }
+}
@@ -16,6 +16,7 @@ public class Config {
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
+    private Level searchTraceLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
 
     public Level getLogLevel() {
@@ -26,6 +27,14 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    public Level getSearchTraceLevel() {
+        return searchTraceLevel;
+    }
+
+    public void setSearchTraceLevel(Level searchTraceLevel) {
+        this.searchTraceLevel = searchTraceLevel;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -47,18 +56,20 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
+                && Objects.equals(searchTraceLevel, otherConfig.searchTraceLevel)
                 && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, searchTraceLevel, userPrefsFilePath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
+                .add("searchTraceLevel", searchTraceLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
                 .toString();
     }
@@ -18,12 +18,15 @@ import java.util.logging.SimpleFormatter;
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
  */
 public class LogsCenter {
+    public static final String SEARCH_TRACE_LOGGER_NAME = "SearchTrace";
+
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
     private static Level currentLogLevel = Level.INFO;
+    private static Logger searchTraceLogger; // kept here so that its level is not lost if it is garbage collected
 
     // This static block ensures essential loggers are created early
     static {
@@ -40,6 +43,10 @@ public class LogsCenter {
         logger.info("Log level will be set as: " + currentLogLevel);
         // set the level of the baseLogger which will be inherited by other loggers
         baseLogger.setLevel(currentLogLevel);
+
+        logger.info("Search trace level will be set as: " + config.getSearchTraceLevel());
+        searchTraceLogger = getLogger(SEARCH_TRACE_LOGGER_NAME);
+        searchTraceLogger.setLevel(config.getSearchTraceLevel());
     }
 
     /**
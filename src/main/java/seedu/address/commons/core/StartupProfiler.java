@@ -0,0 +1,189 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Records how long each phase of starting the application takes, and how much memory it allocates, so that
+ * regressions in startup time can be tracked across releases.
+ * Phases can be measured on any thread, and the memory allocated by a phase is that allocated by the thread running
+ * it. Only phases that start before startup is finished are recorded, but they are recorded even if they end after
+ * it, e.g. when the address book is loaded in the background.
+ */
+public class StartupProfiler {
+
+    /** Reported instead of the memory allocated by a phase when the JVM cannot measure it. */
+    public static final long UNKNOWN_ALLOCATED_BYTES = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(StartupProfiler.class);
+    private static final StartupProfiler instance = new StartupProfiler();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long startNanos = System.nanoTime();
+    private final long jvmStartupMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+    private final List<Phase> phases = new ArrayList<>();
+    private volatile boolean isFinished;
+
+    /**
+     * Returns the profiler that records the phases of starting this application.
+     */
+    public static StartupProfiler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Runs {@code phase}, and records it under {@code phaseName} if startup is not finished yet.
+     *
+     * @return the result of {@code phase}.
+     */
+    public <T> T measure(String phaseName, Supplier<T> phase) {
+        requireAllNonNull(phaseName, phase);
+        if (isFinished) {
+            return phase.get();
+        }
+
+        long phaseStartNanos = System.nanoTime();
+        long startAllocatedBytes = getCurrentThreadAllocatedBytes();
+        try {
+            return phase.get();
+        } finally {
+            long allocatedBytes = startAllocatedBytes == UNKNOWN_ALLOCATED_BYTES
+                    ? UNKNOWN_ALLOCATED_BYTES
+                    : getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+            record(new Phase(phaseName, toMillis(phaseStartNanos - startNanos),
+                    toMillis(System.nanoTime() - phaseStartNanos), allocatedBytes));
+        }
+    }
+
+    /**
+     * Runs {@code phase}, and records it under {@code phaseName} if startup is not finished yet.
+     */
+    public void measure(String phaseName, Runnable phase) {
+        requireAllNonNull(phaseName, phase);
+        measure(phaseName, () -> {
+            phase.run();
+            return null;
+        });
+    }
+
+    /**
+     * Marks startup as finished, so that no more phases are started, and logs the phases recorded so far.
+     */
+    public void finish() {
+        isFinished = true;
+        try {
+            logger.info("Startup phases: " + toJsonString());
+        } catch (JsonProcessingException e) {
+            logger.warning("Failed to report startup phases: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the phases recorded so far, in the order they ended.
+     */
+    public synchronized List<Phase> getPhases() {
+        return List.copyOf(phases);
+    }
+
+    /**
+     * Returns a JSON report of the phases recorded so far, with the time from the start of the JVM until this
+     * profiler was created, when the phases start to be timed.
+     */
+    public String toJsonString() throws JsonProcessingException {
+        return JsonUtil.toJsonString(new Report(jvmStartupMillis, getPhases()));
+    }
+
+    private synchronized void record(Phase phase) {
+        phases.add(phase);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread, or {@link #UNKNOWN_ALLOCATED_BYTES} if
+     * the JVM cannot measure it.
+     */
+    private static long getCurrentThreadAllocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean)) {
+            return UNKNOWN_ALLOCATED_BYTES;
+        }
+        ThreadMXBean threadMxBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadMxBean.isThreadAllocatedMemorySupported() || !threadMxBean.isThreadAllocatedMemoryEnabled()) {
+            return UNKNOWN_ALLOCATED_BYTES;
+        }
+        return threadMxBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * A phase of startup that has been measured.
+     */
+    public static class Phase {
+        private final String name;
+        private final double startMillis;
+        private final double durationMillis;
+        private final long allocatedBytes;
+
+        /**
+         * Creates a {@code Phase} named {@code name} that started {@code startMillis} after the profiler was created.
+         */
+        public Phase(String name, double startMillis, double durationMillis, long allocatedBytes) {
+            this.name = name;
+            this.startMillis = startMillis;
+            this.durationMillis = durationMillis;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getStartMillis() {
+            return startMillis;
+        }
+
+        public double getDurationMillis() {
+            return durationMillis;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("name", name)
+                    .add("startMillis", startMillis)
+                    .add("durationMillis", durationMillis)
+                    .add("allocatedBytes", allocatedBytes)
+                    .toString();
+        }
+    }
+
+    /**
+     * The JSON report of the phases recorded.
+     */
+    private static class Report {
+        private final long jvmStartupMillis;
+        private final List<Phase> phases;
+
+        private Report(long jvmStartupMillis, List<Phase> phases) {
+            this.jvmStartupMillis = jvmStartupMillis;
+            this.phases = phases;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings controlling how the address book data is stored.
+ * Guarantees: immutable.
+ */
+public class StorageSettings implements Serializable {
+
+    /**
+     * Represents the format the address book data file is stored in.
+     */
+    public enum DataFileFormat {
+        JSON, BINARY
+    }
+
+    private static final boolean DEFAULT_JOURNAL_ENABLED = true;
+    private static final boolean DEFAULT_BACKGROUND_SAVE_ENABLED = true;
+    private static final boolean DEFAULT_BACKGROUND_LOAD_ENABLED = true;
+    private static final DataFileFormat DEFAULT_DATA_FILE_FORMAT = DataFileFormat.JSON;
+
+    private final boolean journalEnabled;
+    private final boolean backgroundSaveEnabled;
+    private final boolean backgroundLoadEnabled;
+    private final DataFileFormat dataFileFormat;
+
+    /**
+     * Constructs a {@code StorageSettings} with the default settings.
+     */
+    public StorageSettings() {
+        journalEnabled = DEFAULT_JOURNAL_ENABLED;
+        backgroundSaveEnabled = DEFAULT_BACKGROUND_SAVE_ENABLED;
+        backgroundLoadEnabled = DEFAULT_BACKGROUND_LOAD_ENABLED;
+        dataFileFormat = DEFAULT_DATA_FILE_FORMAT;
+    }
+
+    /**
+     * Constructs a {@code StorageSettings} with the specified settings.
+     */
+    public StorageSettings(boolean journalEnabled, boolean backgroundSaveEnabled, boolean backgroundLoadEnabled,
+            DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.journalEnabled = journalEnabled;
+        this.backgroundSaveEnabled = backgroundSaveEnabled;
+        this.backgroundLoadEnabled = backgroundLoadEnabled;
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    /**
+     * Returns true if changes to the address book should be appended to a journal next to the data file,
+     * instead of rewriting the whole data file after every change.
+     */
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    /**
+     * Returns true if the address book should be saved by a background thread, so that commands do not wait for
+     * the data file to be written.
+     */
+    public boolean isBackgroundSaveEnabled() {
+        return backgroundSaveEnabled;
+    }
+
+    /**
+     * Returns true if the address book should be loaded by a background thread at startup, so that the main window
+     * is shown before the whole data file has been read.
+     */
+    public boolean isBackgroundLoadEnabled() {
+        return backgroundLoadEnabled;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StorageSettings)) {
+            return false;
+        }
+
+        StorageSettings otherStorageSettings = (StorageSettings) other;
+        return journalEnabled == otherStorageSettings.journalEnabled
+                && backgroundSaveEnabled == otherStorageSettings.backgroundSaveEnabled
+                && backgroundLoadEnabled == otherStorageSettings.backgroundLoadEnabled
+                && dataFileFormat == otherStorageSettings.dataFileFormat;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(journalEnabled, backgroundSaveEnabled, backgroundLoadEnabled, dataFileFormat);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("journalEnabled", journalEnabled)
+                .add("backgroundSaveEnabled", backgroundSaveEnabled)
+                .add("backgroundLoadEnabled", backgroundLoadEnabled)
+                .add("dataFileFormat", dataFileFormat)
+                .toString();
+    }
+}
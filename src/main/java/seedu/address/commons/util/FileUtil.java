@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 
 /**
  * Writes and reads files
@@ -75,9 +78,49 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The string is first written to a temporary file next to {@code file}, which then replaces {@code file},
+     * so that {@code file} is never left partially written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes given bytes to a file, in the same way as {@link #writeToFile(Path, String)}.
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        Path tempFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, content);
+            copyPermissions(absoluteFile, tempFile);
+            replaceFile(tempFile, absoluteFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Gives {@code target} the same POSIX permissions as {@code source}, if {@code source} exists and the file
+     * system supports them, as temporary files are only readable and writable by their owner.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceAttributes = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceAttributes == null || !Files.exists(source)) {
+            return;
+        }
+        Files.setPosixFilePermissions(target, sourceAttributes.readAttributes().permissions());
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} atomically if the file system supports it.
+     */
+    private static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
@@ -0,0 +1,42 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps a single canonical instance of each distinct value of an immutable type, so that equal values share one
+ * object in memory and can be compared by identity.
+ * Values are held weakly, so a canonical instance is forgotten once nothing else refers to it.
+ * Safe for use from multiple threads.
+ *
+ * @param <T> an immutable type with value-based {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> canonicalValues = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} the canonical instance if there is
+     * none yet.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = canonicalValues.get(value);
+        T canonicalValue = reference == null ? null : reference.get();
+        if (canonicalValue != null) {
+            return canonicalValue;
+        }
+        canonicalValues.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of canonical instances that are still referred to.
+     */
+    public synchronized int size() {
+        return canonicalValues.size();
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+
+/**
+ * Matches sentences against a fixed set of keywords.
+ * A sentence matches if any of its words is equal to any of the keywords, ignoring case, as in
+ * {@link StringUtil#containsWordIgnoreCase(String, String)}. Unlike that method, sentences are scanned in place and
+ * words are compared with {@link String#regionMatches(boolean, int, String, int, int)}, so matching does not allocate.
+ */
+public class KeywordMatcher {
+
+    private final String[] keywords;
+
+    /**
+     * Creates a {@code KeywordMatcher} for {@code keywords}.
+     *
+     * @param keywords cannot be null, and every keyword must be a single word.
+     */
+    public KeywordMatcher(Collection<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = new String[keywords.size()];
+        int i = 0;
+        for (String keyword : keywords) {
+            requireNonNull(keyword);
+            String preppedKeyword = keyword.trim();
+            checkArgument(!preppedKeyword.isEmpty(), "Word parameter cannot be empty");
+            checkArgument(preppedKeyword.chars().noneMatch(c -> isWordSeparator((char) c)),
+                    "Word parameter should be a single word");
+            this.keywords[i++] = preppedKeyword;
+        }
+    }
+
+    /**
+     * Returns true if {@code sentence} contains any of the keywords as a full word, ignoring case.
+     *
+     * @param sentence cannot be null.
+     */
+    public boolean matches(String sentence) {
+        requireNonNull(sentence);
+
+        int length = sentence.length();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length && !isWordSeparator(sentence.charAt(end))) {
+                end++;
+            }
+            if (end > start && matchesAnyKeyword(sentence, start, end - start)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} separates words, i.e. it is in the {@code \s} character class of regular expressions.
+     */
+    public static boolean isWordSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private boolean matchesAnyKeyword(String sentence, int wordStart, int wordLength) {
+        for (String keyword : keywords) {
+            if (keyword.length() == wordLength && sentence.regionMatches(true, wordStart, keyword, 0, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
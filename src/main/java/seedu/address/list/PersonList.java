@@ -3,9 +3,12 @@ package seedu.address.list;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
-import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -13,10 +16,14 @@ import seedu.address.model.person.Person;
 
 /**
  * A list of persons that can be filtered and sorted.
+ * Persons are sorted by flag status, and then by the order in which they were added to the source list, which is
+ * tracked with a sequence number for each person so that sorting does not need to look up their positions.
  */
 public class PersonList {
-    private static final Logger logger = Logger.getLogger(PersonList.class.getName());
+    private final Map<Person, Long> sequenceNumbers = new IdentityHashMap<>();
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private long nextSequenceNumber;
 
     /**
      * Creates a PersonList with the given list of persons.
@@ -26,7 +33,13 @@ public class PersonList {
     public PersonList(ObservableList<Person> persons) {
         requireNonNull(persons);
 
+        persons.forEach(this::assignNextSequenceNumber);
+        // registered before the filtered list is created, so that sequence numbers are assigned before sorting
+        persons.addListener(this::updateSequenceNumbers);
         this.filteredPersons = new FilteredList<>(persons);
+        this.sortedPersons = new SortedList<>(filteredPersons,
+                Comparator.comparing(Person::getFlagStatus)
+                        .thenComparingLong(sequenceNumbers::get));
     }
 
     /**
@@ -39,6 +52,13 @@ public class PersonList {
         filteredPersons.setPredicate(andAll(predicate));
     }
 
+    /**
+     * Returns the number of persons that pass the filter.
+     */
+    public int size() {
+        return filteredPersons.size();
+    }
+
     /**
      * Returns a predicate after combining all the predicates using the and operator.
      * @param predicates a vararg of predicates
@@ -65,22 +85,48 @@ public class PersonList {
      * @return sorted observable list of persons
      */
     public ObservableList<Person> getPersonList() {
-        logger.fine(() -> "Person list (pre-sort, sample): " + filteredPersons.stream()
-                .limit(5)
-                .map(p -> p.getName().toString())
-                .toList());
+        return sortedPersons;
+    }
 
-        ObservableList<Person> result = new SortedList<>(filteredPersons,
-                Comparator.comparing(Person::getFlagStatus)
-                        .thenComparing(p -> filteredPersons.getSource().indexOf(p))
-        );
+    /**
+     * Gives added persons the sequence numbers of the persons they replace, or the next sequence numbers if they
+     * are added to the end of the list. Sequence numbers are reassigned by position after any other change.
+     */
+    private void updateSequenceNumbers(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            List<? extends Person> removed = change.getRemoved();
+            List<? extends Person> added = change.getAddedSubList();
+            List<? extends Person> source = change.getList();
+
+            if (change.wasPermutated()) {
+                reassignSequenceNumbers(source);
+            } else if (removed.size() == added.size()) {
+                Long[] replacedSequenceNumbers = new Long[removed.size()];
+                for (int i = 0; i < removed.size(); i++) {
+                    replacedSequenceNumbers[i] = sequenceNumbers.remove(removed.get(i));
+                }
+                for (int i = 0; i < added.size(); i++) {
+                    sequenceNumbers.put(added.get(i), replacedSequenceNumbers[i]);
+                }
+            } else {
+                removed.forEach(sequenceNumbers::remove);
+                if (change.getTo() == source.size()) {
+                    added.forEach(this::assignNextSequenceNumber);
+                } else if (!added.isEmpty()) {
+                    reassignSequenceNumbers(source);
+                }
+            }
+        }
+    }
 
-        logger.fine(() -> "Person list (post-sort, sample): " + result.stream()
-                .limit(5)
-                .map(p -> p.getName().toString())
-                .toList());
+    private void assignNextSequenceNumber(Person person) {
+        sequenceNumbers.put(person, nextSequenceNumber++);
+    }
 
-        return result;
+    private void reassignSequenceNumbers(List<? extends Person> persons) {
+        sequenceNumbers.clear();
+        nextSequenceNumber = 0;
+        persons.forEach(this::assignNextSequenceNumber);
     }
 
     @Override
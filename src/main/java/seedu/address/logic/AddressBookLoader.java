@@ -0,0 +1,132 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Loads the address book into a model in the background, so that the application can be shown before the whole
+ * address book has been read.
+ * Persons are read on a background thread, but as the model is not thread-safe, they are only added to it by
+ * {@link #addLoadedPersons()}, on the thread that uses the model. It never waits for the background thread, so that
+ * the thread that uses the model, e.g. the UI thread, is never blocked by loading.
+ */
+public class AddressBookLoader {
+
+    /**
+     * Reads the address book from storage.
+     */
+    @FunctionalInterface
+    public interface Reader {
+        /**
+         * Returns the whole address book, and passes its persons to {@code loadedPersonsConsumer} in chunks, in
+         * order, while it is being read. The address book returned may differ from the persons passed on, e.g. if
+         * loading failed.
+         */
+        ReadOnlyAddressBook read(Consumer<List<Person>> loadedPersonsConsumer);
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLoader.class);
+
+    private final Model model;
+    private final Reader reader;
+    private final Queue<List<Person>> loadedChunks = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<ReadOnlyAddressBook> loadedAddressBook = new CompletableFuture<>();
+    private volatile Runnable progressHandler = () -> {};
+    private boolean isChunkRejected;
+    private boolean isComplete;
+
+    /**
+     * Creates an {@code AddressBookLoader} that loads the address book read by {@code reader} into {@code model}.
+     */
+    public AddressBookLoader(Model model, Reader reader) {
+        requireAllNonNull(model, reader);
+        this.model = model;
+        this.reader = reader;
+    }
+
+    /**
+     * Starts reading the address book on a new background thread.
+     */
+    public void start() {
+        Thread thread = new Thread(this::read, "AddressBook loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Sets the handler to be notified, on the background thread, whenever more persons have been read, and once the
+     * whole address book has been read.
+     */
+    public void setProgressHandler(Runnable handler) {
+        requireNonNull(handler);
+        progressHandler = handler;
+    }
+
+    /**
+     * Adds the persons read since the last call to the model, and once the whole address book has been read,
+     * completes loading it.
+     *
+     * @return true if loading is complete.
+     */
+    public boolean addLoadedPersons() {
+        if (isComplete) {
+            return true;
+        }
+
+        // checked before taking the chunks, so that no chunks can be read after the last of them is taken
+        boolean isReadComplete = loadedAddressBook.isDone();
+        List<Person> chunk;
+        while ((chunk = loadedChunks.poll()) != null) {
+            if (isChunkRejected) {
+                continue;
+            }
+            try {
+                model.addLoadedPersons(chunk);
+            } catch (DuplicatePersonException dpe) {
+                // the reader reports the duplicate once it is done, and the model is then set to what it returns
+                isChunkRejected = true;
+            }
+        }
+
+        if (isReadComplete) {
+            model.setLoadedAddressBook(loadedAddressBook.join());
+            isComplete = true;
+            logger.info("Loaded " + model.getAddressBook().getPersonList().size() + " persons in the background");
+        }
+        return isComplete;
+    }
+
+    /**
+     * Reads the address book. Runs on the background thread.
+     */
+    private void read() {
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = reader.read(persons -> {
+                loadedChunks.add(persons);
+                progressHandler.run();
+            });
+        } catch (RuntimeException e) {
+            logger.warning("Address book could not be loaded: " + StringUtil.getDetails(e)
+                    + " Will be starting with an empty AddressBook.");
+            addressBook = new AddressBook();
+        }
+        loadedAddressBook.complete(addressBook);
+        progressHandler.run();
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,15 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands as a single transaction and saves the address book once at the end.
+     * If any command is invalid or fails, none of the commands take effect.
+     * @param commandTexts The commands, one per element, as they would be entered by the user.
+     * @return the result of the batch, with the number of commands executed and the throughput.
+     * @throws CommandException If any command is invalid or fails, or saving fails.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -47,4 +58,30 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler to be notified, possibly on a background thread, with an error message
+     * whenever saving the address book in the background fails.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Sets the handler to be notified, possibly on a background thread, whenever saving the address book in the
+     * background succeeds after an earlier save in the background failed.
+     */
+    void setSaveRecoveryHandler(Runnable handler);
+
+    /**
+     * Sets the handler to be notified, possibly on a background thread, whenever more of the address book has been
+     * loaded in the background, and once it has been fully loaded.
+     */
+    void setLoadProgressHandler(Runnable handler);
+
+    /**
+     * Adds the persons loaded in the background since the last call to the address book.
+     * Must be called on the thread that executes commands.
+     *
+     * @return true if the address book has been fully loaded.
+     */
+    boolean addLoadedPersons();
 }
@@ -3,16 +3,20 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -32,13 +36,24 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AddressBookLoader addressBookLoader;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose address book is still
+     * being loaded by {@code addressBookLoader}. Commands that need the whole address book are rejected until it has
+     * been fully loaded.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookLoader addressBookLoader) {
         this.model = model;
         this.storage = storage;
+        this.addressBookLoader = addressBookLoader;
         addressBookParser = new AddressBookParser();
     }
 
@@ -46,21 +61,56 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return executeAndSave(command);
+    }
+
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException {
+        logger.info("----------------[BATCH COMMAND][" + commandTexts.size() + " lines]");
+
+        return executeAndSave(new BatchCommand(commandTexts));
+    }
+
+    /**
+     * Executes {@code command} and saves the changes it made to the address book, if any.
+     */
+    private CommandResult executeAndSave(Command command) throws CommandException {
+        boolean isAddressBookLoaded = addLoadedPersons();
+        // rejected rather than waited for, as waiting would freeze the UI until the whole address book is read
+        if (command.requiresFullAddressBook() && !isAddressBookLoaded) {
+            throw new CommandException(Messages.MESSAGE_ADDRESS_BOOK_LOADING);
+        }
+        CommandResult commandResult = command.execute(model);
+        if (command.readsAddressBook() && !isAddressBookLoaded) {
+            commandResult = new CommandResult(commandResult.getFeedbackToUser() + "\n"
+                    + Messages.MESSAGE_RESULTS_MAY_BE_INCOMPLETE, commandResult.isShowHelp(), commandResult.isExit());
+        }
+
+        if (!model.hasUncommittedChanges()) {
+            return commandResult;
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            List<AddressBookChange> changes = model.commitAddressBook();
+            storage.saveAddressBookChanges(model.getAddressBookSnapshot(), changes);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns the message to show the user when saving the address book fails with {@code ioe}.
+     */
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -85,4 +135,26 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        storage.setSaveFailureHandler(ioe -> handler.accept(getSaveErrorMessage(ioe)));
+    }
+
+    @Override
+    public void setSaveRecoveryHandler(Runnable handler) {
+        storage.setSaveRecoveryHandler(handler);
+    }
+
+    @Override
+    public void setLoadProgressHandler(Runnable handler) {
+        if (addressBookLoader != null) {
+            addressBookLoader.setProgressHandler(handler);
+        }
+    }
+
+    @Override
+    public boolean addLoadedPersons() {
+        return addressBookLoader == null || addressBookLoader.addLoadedPersons();
+    }
 }
@@ -19,6 +19,10 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_ADDRESS_BOOK_LOADING = "The address book is still loading. "
+            + "Please try again once it has been loaded.";
+    public static final String MESSAGE_RESULTS_MAY_BE_INCOMPLETE = "The address book is still loading, "
+            + "so these results may be incomplete.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_INVALID_DOES_NOT_EXIST = "Invalid datetime value (e.g. 31 April or 29 Feb in "
@@ -6,7 +6,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENUE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WHEN;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -78,13 +77,7 @@ public class AddMeetingCommand extends Command {
         }
 
         Person personToEdit = lastShownList.get(index.getZeroBased());
-        List<Meeting> editedMeetings = new ArrayList<>(personToEdit.getMeetings());
-        editedMeetings.add(meeting);
-        Person editedPerson = new Person(personToEdit.getName(), personToEdit.getPhone(),
-                personToEdit.getOtherPhones(),
-                personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getTags(),
-                editedMeetings, personToEdit.getFlagStatus());
+        Person editedPerson = personToEdit.withAddedMeeting(meeting);
         model.setPerson(personToEdit, editedPerson);
 
         return new CommandResult(generateSuccessMessage(editedPerson, meeting));
@@ -0,0 +1,170 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Executes a script of commands as a single transaction: every command is parsed before any is executed, and if
+ * any command fails, the changes made by the commands before it are rolled back.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Executes the commands in a file, one per line. "
+            + "Blank lines and lines starting with " + COMMENT_MARKER + " are skipped.\n"
+            + "If any command fails, none of the commands take effect.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/import.txt";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands in %2$d ms (%3$d commands/s).";
+    public static final String MESSAGE_READ_FAILURE = "Could not read the batch file %1$s: %2$s";
+    public static final String MESSAGE_LINE_FAILURE = "Line %1$d: %2$s\nNo commands in the batch were executed.";
+    public static final String MESSAGE_NESTED_BATCH = "Batch files cannot contain batch commands.";
+    public static final String MESSAGE_UNDO_IN_BATCH = "Batch files cannot contain undo or redo commands.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchCommand.class);
+
+    private final Path filePath;
+    private final List<String> commandTexts;
+
+    /**
+     * Creates a BatchCommand to execute the commands in the file at {@code filePath}.
+     */
+    public BatchCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.commandTexts = null;
+    }
+
+    /**
+     * Creates a BatchCommand to execute {@code commandTexts}, one command per element.
+     */
+    public BatchCommand(List<String> commandTexts) {
+        requireNonNull(commandTexts);
+        this.filePath = null;
+        this.commandTexts = List.copyOf(commandTexts);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startTime = System.nanoTime();
+
+        List<Command> commands = parseCommands(readCommandTexts());
+
+        // persons are immutable, so copying the person list is enough; the indexes are only rebuilt on rollback
+        ReadOnlyAddressBook snapshot = AddressBookSnapshot.copyOf(model.getAddressBook());
+
+        for (int i = 0; i < commands.size(); i++) {
+            if (commands.get(i) == null) {
+                continue;
+            }
+            try {
+                commands.get(i).execute(model);
+            } catch (CommandException ce) {
+                model.rollbackAddressBook(snapshot);
+                logger.info("Rolled back batch after line " + (i + 1) + " failed: " + ce.getMessage());
+                throw new CommandException(String.format(MESSAGE_LINE_FAILURE, i + 1, ce.getMessage()), ce);
+            } catch (Throwable t) {
+                model.rollbackAddressBook(snapshot);
+                logger.warning("Rolled back batch after line " + (i + 1) + " threw: " + t);
+                throw t;
+            }
+        }
+
+        int commandCount = (int) commands.stream().filter(Objects::nonNull).count();
+        long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+        long commandsPerSecond = commandCount * 1_000_000_000L / elapsedNanos;
+        logger.info(String.format("Executed batch of %d commands in %d ns", commandCount, elapsedNanos));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, elapsedNanos / 1_000_000,
+                commandsPerSecond));
+    }
+
+    private List<String> readCommandTexts() throws CommandException {
+        if (commandTexts != null) {
+            return commandTexts;
+        }
+        try {
+            return Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath, ioe.getMessage()), ioe);
+        }
+    }
+
+    /**
+     * Parses every line of {@code lines} into a command, with {@code null} for lines that are skipped.
+     *
+     * @throws CommandException if any line is not a valid command.
+     */
+    private static List<Command> parseCommands(List<String> lines) throws CommandException {
+        AddressBookParser parser = new AddressBookParser();
+        List<Command> commands = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                commands.add(null);
+                continue;
+            }
+
+            Command command;
+            try {
+                command = parser.parseCommand(line);
+            } catch (ParseException pe) {
+                throw new CommandException(String.format(MESSAGE_LINE_FAILURE, i + 1, pe.getMessage()), pe);
+            }
+            if (command instanceof BatchCommand) {
+                throw new CommandException(String.format(MESSAGE_LINE_FAILURE, i + 1, MESSAGE_NESTED_BATCH));
+            }
+            if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                // the batch is undone as a whole, so it cannot switch versions itself
+                throw new CommandException(String.format(MESSAGE_LINE_FAILURE, i + 1, MESSAGE_UNDO_IN_BATCH));
+            }
+            commands.add(command);
+        }
+        return commands;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return Objects.equals(filePath, otherBatchCommand.filePath)
+                && Objects.equals(commandTexts, otherBatchCommand.commandTexts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("commandTexts", commandTexts)
+                .toString();
+    }
+}
@@ -17,4 +17,20 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command can only be executed once the whole address book has been loaded, e.g. as it
+     * changes the address book or refers to persons by their index.
+     */
+    public boolean requiresFullAddressBook() {
+        return true;
+    }
+
+    /**
+     * Returns true if the result of the command depends on the persons in the address book, so that it may be
+     * incomplete when the command is executed before the whole address book has been loaded.
+     */
+    public boolean readsAddressBook() {
+        return false;
+    }
+
 }
@@ -113,22 +113,14 @@ public class DeleteMeetingCommand extends Command {
     /**
      * Deletes the specified meeting from the given person.
      * <p>
-     * Creates a new {@code Person} without the meeting and updates the model
-     * to replace the old person, ensuring the UI is refreshed.
+     * The model replaces the old person with a new {@code Person} without the meeting,
+     * ensuring the UI is refreshed.
      *
      * @param model The model to update.
      * @param personToEdit The person whose meetings are being modified.
-     * @return The updated {@code Person}.
      */
     private void deleteSpecifiedPersonMeeting(Model model, Person personToEdit) {
         model.deleteMeetingFromPerson(personToEdit, meetingIndex.getZeroBased());
-
-        Person editedPerson = new Person(personToEdit.getName(), personToEdit.getPhone(),
-                personToEdit.getOtherPhones(), personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getTags(),
-                personToEdit.getMeetings(), personToEdit.getFlagStatus());
-
-        model.setPerson(personToEdit, editedPerson);
     }
 
     @Override
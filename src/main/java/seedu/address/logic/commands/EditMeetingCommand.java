@@ -94,17 +94,9 @@ public class EditMeetingCommand extends Command {
         Meeting meetingToEdit = lastMeetingsList.get(meetingIndex.getZeroBased());
         Meeting editedMeeting = createEditedMeeting(meetingToEdit, editMeetingDescriptor);
 
+        // Replaces the old person with a new person with the updated meetings list, which refreshes the GUI
         model.editMeeting(personToEdit, meetingIndex.getZeroBased(), editedMeeting);
 
-        // Creates a new Person object with the updated meetings list
-        Person editedPerson = new Person(personToEdit.getName(), personToEdit.getPhone(),
-                personToEdit.getOtherPhones(), personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getTags(),
-                personToEdit.getMeetings(), personToEdit.getFlagStatus());
-
-        // Replaces the old person with the new person in the model to refresh the GUI
-        model.setPerson(personToEdit, editedPerson);
-
         return new CommandResult(String.format(MESSAGE_EDIT_MEETING_SUCCESS, Messages.format(editedMeeting)));
     }
 
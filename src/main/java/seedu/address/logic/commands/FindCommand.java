@@ -58,6 +58,16 @@ public class FindCommand extends Command {
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getPersonList().size()));
     }
 
+    @Override
+    public boolean requiresFullAddressBook() {
+        return false;
+    }
+
+    @Override
+    public boolean readsAddressBook() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -35,6 +35,16 @@ public class FindMeetingCommand extends Command {
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getPersonList().size()));
     }
 
+    @Override
+    public boolean requiresFullAddressBook() {
+        return false;
+    }
+
+    @Override
+    public boolean readsAddressBook() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
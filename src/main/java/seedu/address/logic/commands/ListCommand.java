@@ -21,4 +21,14 @@ public class ListCommand extends Command {
         model.updatePersonListFilter(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean requiresFullAddressBook() {
+        return false;
+    }
+
+    @Override
+    public boolean readsAddressBook() {
+        return true;
+    }
 }
@@ -0,0 +1,124 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WHEN;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.MeetingIndex.ScheduledMeeting;
+
+/**
+ * Lists the meetings in the address book in chronological order, either those between two date times or the next
+ * few upcoming ones.
+ */
+public class ListMeetingCommand extends Command {
+
+    public static final String COMMAND_WORD = "listmt";
+
+    public static final int DEFAULT_COUNT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists meetings in chronological order.\n"
+            + "Parameters: [COUNT] or " + PREFIX_WHEN + "START " + PREFIX_WHEN + "END\n"
+            + "Without parameters, lists the next " + DEFAULT_COUNT + " upcoming meetings.\n"
+            + "Example: " + COMMAND_WORD + " 5\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_WHEN + "2025-11-01 0000 " + PREFIX_WHEN + "2025-11-30 2359";
+
+    public static final String MESSAGE_MEETINGS_LISTED_OVERVIEW = "%1$d meetings listed!";
+    public static final String MESSAGE_MEETING_LINE = "\n%1$d. %2$s; With: %3$s";
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final int count;
+    private final Clock clock;
+
+    /**
+     * Creates a ListMeetingCommand to list the meetings from {@code start} to {@code end} inclusive.
+     */
+    public ListMeetingCommand(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        checkArgument(!start.isAfter(end), "Start must not be after end");
+        this.start = start;
+        this.end = end;
+        this.count = 0;
+        this.clock = null;
+    }
+
+    /**
+     * Creates a ListMeetingCommand to list the next {@code count} upcoming meetings.
+     */
+    public ListMeetingCommand(int count) {
+        this(count, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a ListMeetingCommand to list the next {@code count} meetings from the current time of {@code clock}.
+     */
+    ListMeetingCommand(int count, Clock clock) {
+        requireNonNull(clock);
+        checkArgument(count > 0, "Count must be positive");
+        this.start = null;
+        this.end = null;
+        this.count = count;
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ScheduledMeeting> meetings = start != null
+                ? model.getMeetingsBetween(start, end)
+                : model.getMeetingsFrom(LocalDateTime.now(clock), count);
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_MEETINGS_LISTED_OVERVIEW, meetings.size()));
+        for (int i = 0; i < meetings.size(); i++) {
+            ScheduledMeeting scheduledMeeting = meetings.get(i);
+            builder.append(String.format(MESSAGE_MEETING_LINE, i + 1,
+                    Messages.format(scheduledMeeting.getMeeting()), scheduledMeeting.getPerson().getName()));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean requiresFullAddressBook() {
+        return false;
+    }
+
+    @Override
+    public boolean readsAddressBook() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListMeetingCommand)) {
+            return false;
+        }
+
+        ListMeetingCommand otherListMeetingCommand = (ListMeetingCommand) other;
+        return Objects.equals(start, otherListMeetingCommand.start)
+                && Objects.equals(end, otherListMeetingCommand.end)
+                && count == otherListMeetingCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .add("count", count)
+                .toString();
+    }
+}
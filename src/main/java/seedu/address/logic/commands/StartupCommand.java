@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.StartupProfiler;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Reports how long each phase of starting the application took, as JSON.
+ */
+public class StartupCommand extends Command {
+
+    public static final String COMMAND_WORD = "startup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long each phase of starting the application took, and how much memory it allocated, "
+            + "as JSON.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Startup phases:\n%1$s";
+    public static final String MESSAGE_REPORT_FAILED = "Could not create the startup report: %1$s";
+
+    private final StartupProfiler profiler;
+
+    /**
+     * Creates a {@code StartupCommand} that reports the phases of starting this application.
+     */
+    public StartupCommand() {
+        this(StartupProfiler.getInstance());
+    }
+
+    /**
+     * Creates a {@code StartupCommand} that reports the phases recorded by {@code profiler}.
+     */
+    public StartupCommand(StartupProfiler profiler) {
+        requireNonNull(profiler);
+        this.profiler = profiler;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        try {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, profiler.toJsonString()));
+        } catch (JsonProcessingException e) {
+            throw new CommandException(String.format(MESSAGE_REPORT_FAILED, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public boolean requiresFullAddressBook() {
+        return false;
+    }
+}
@@ -9,7 +9,9 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -26,53 +28,115 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class DateTimeParser {
     /**
-     * List of accepted datetime formatters
+     * List of accepted datetime patterns
      */
-    private static final List<DateTimeFormatter> ALLOWED_FORMATTERS = List.of(
-            DateTimeFormatter.ofPattern("dd-MM-uuuu HHmm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("uuuu-MM-dd HHmm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("uuuu/MM/dd HH:mm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("uuuu/MM/dd HHmm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("dd/MM/uuuu HHmm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("dd-MM-uuuu HH:mm").withResolverStyle(ResolverStyle.STRICT)
+    private static final List<String> ALLOWED_PATTERNS = List.of(
+            "dd-MM-uuuu HHmm",
+            "uuuu-MM-dd HH:mm",
+            "uuuu-MM-dd HHmm",
+            "uuuu/MM/dd HH:mm",
+            "uuuu/MM/dd HHmm",
+            "dd/MM/uuuu HH:mm",
+            "dd/MM/uuuu HHmm",
+            "dd-MM-uuuu HH:mm"
     );
-    private static final String OUTPUT_FORMAT = "MMM dd yyyy HH:mm";
+    /**
+     * Accepted datetime formatters, by their patterns
+     */
+    private static final Map<String, DateTimeFormatter> ALLOWED_FORMATTERS = new LinkedHashMap<>();
+    private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeFormatter.ofPattern("MMM dd yyyy HH:mm");
     private static final String LOGGER_INVALID_FORMAT = "Invalid datetime format: %1$s";
     private static final String LOGGER_INVALID_DATETIME = "Invalid datetime value: %1$s";
 
     private static final Logger logger = LogsCenter.getLogger(DateTimeParser.class);
 
+    static {
+        for (String pattern : ALLOWED_PATTERNS) {
+            ALLOWED_FORMATTERS.put(pattern,
+                    DateTimeFormatter.ofPattern(pattern).withResolverStyle(ResolverStyle.STRICT));
+        }
+    }
+
     /**
      * Parses a {@code String} representation of a datetime into a {@link LocalDateTime} object.
+     * The format of {@code dateTime} is found from the positions of its separators, so that it is only parsed with
+     * one formatter. The other formatters are only tried if it does not match that format.
      * @param dateTime the input string to parse (non-null)
      * @return a corresponding {@link LocalDateTime} object
      * @throws ParseException if none of the patterns match
      */
     public static LocalDateTime parseDateTime(String dateTime) throws ParseException {
         requireNonNull(dateTime);
-        for (DateTimeFormatter formatter : ALLOWED_FORMATTERS) {
-            try {
-                LocalDateTime parsed = LocalDateTime.parse(dateTime, formatter);
-                if (parsed.getYear() < 1) {
-                    throw new ParseException(MESSAGE_INVALID_YEAR);
-                }
+        DateTimeFormatter likelyFormatter = ALLOWED_FORMATTERS.get(findLikelyPattern(dateTime));
+        if (likelyFormatter != null) {
+            LocalDateTime parsed = parseDateTime(dateTime, likelyFormatter);
+            if (parsed != null) {
+                return parsed;
+            }
+        }
+
+        for (DateTimeFormatter formatter : ALLOWED_FORMATTERS.values()) {
+            if (formatter == likelyFormatter) {
+                continue;
+            }
+            LocalDateTime parsed = parseDateTime(dateTime, formatter);
+            if (parsed != null) {
                 return parsed;
-            } catch (DateTimeParseException dtpe) {
-                Throwable cause = dtpe.getCause();
-                // checks if parsing failed because of an invalid date/time value
-                if (cause instanceof java.time.DateTimeException) {
-                    logger.info(String.format(LOGGER_INVALID_DATETIME, dateTime));
-                    throw new ParseException(MESSAGE_INVALID_DOES_NOT_EXIST);
-                }
-                // otherwise, just continue to next pattern (might be a format mismatch)
             }
         }
         logger.info(String.format(LOGGER_INVALID_FORMAT, dateTime));
         throw new ParseException(MESSAGE_INVALID_DATETIME_FORMAT);
     }
 
+    /**
+     * Parses {@code dateTime} with {@code formatter}, returning null if it is not in the format of {@code formatter}.
+     * @throws ParseException if {@code dateTime} is in the format of {@code formatter}, but is not a valid datetime
+     */
+    private static LocalDateTime parseDateTime(String dateTime, DateTimeFormatter formatter) throws ParseException {
+        try {
+            LocalDateTime parsed = LocalDateTime.parse(dateTime, formatter);
+            if (parsed.getYear() < 1) {
+                throw new ParseException(MESSAGE_INVALID_YEAR);
+            }
+            return parsed;
+        } catch (DateTimeParseException dtpe) {
+            Throwable cause = dtpe.getCause();
+            // checks if parsing failed because of an invalid date/time value
+            if (cause instanceof java.time.DateTimeException) {
+                logger.info(String.format(LOGGER_INVALID_DATETIME, dateTime));
+                throw new ParseException(MESSAGE_INVALID_DOES_NOT_EXIST);
+            }
+            // otherwise, it is a format mismatch
+            return null;
+        }
+    }
+
+    /**
+     * Returns the pattern that {@code dateTime} is most likely in, going by the separators in its date and time.
+     * The pattern returned might not be one of the accepted patterns.
+     */
+    private static String findLikelyPattern(String dateTime) {
+        int spaceIndex = dateTime.indexOf(' ');
+        if (spaceIndex < 0) {
+            return "";
+        }
+        String timePattern = dateTime.indexOf(':', spaceIndex) >= 0 ? "HH:mm" : "HHmm";
+
+        if (spaceIndex > 2 && isDateSeparator(dateTime.charAt(2))) {
+            char separator = dateTime.charAt(2);
+            return "dd" + separator + "MM" + separator + "uuuu " + timePattern;
+        }
+        if (spaceIndex > 4 && isDateSeparator(dateTime.charAt(4))) {
+            char separator = dateTime.charAt(4);
+            return "uuuu" + separator + "MM" + separator + "dd " + timePattern;
+        }
+        return "";
+    }
+
+    private static boolean isDateSeparator(char c) {
+        return c == '-' || c == '/';
+    }
+
     /**
      * Formats a {@link LocalDateTime} object into a {@code String} using the output format.
      * @param dateTime the {@link LocalDateTime} to format (non-null)
@@ -80,6 +144,6 @@ public class DateTimeParser {
      */
     public static String format(LocalDateTime dateTime) {
         requireNonNull(dateTime);
-        return dateTime.format(DateTimeFormatter.ofPattern(OUTPUT_FORMAT));
+        return dateTime.format(OUTPUT_FORMATTER);
     }
 }
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WHEN;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.ListMeetingCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code ListMeetingCommand} object.
+ */
+public class ListMeetingCommandParser implements Parser<ListMeetingCommand> {
+
+    public static final String MESSAGE_START_AFTER_END = "The start of the range must not be after its end.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListMeetingCommand
+     * and returns a ListMeetingCommand object for execution.
+     * The arguments are either empty, a positive count, or exactly two date times.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ListMeetingCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_WHEN);
+        String preamble = argMultimap.getPreamble();
+        List<String> whens = argMultimap.getAllValues(PREFIX_WHEN);
+
+        if (whens.isEmpty()) {
+            return parseCount(preamble);
+        }
+
+        if (!preamble.isEmpty() || whens.size() != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListMeetingCommand.MESSAGE_USAGE));
+        }
+
+        LocalDateTime start = ParserUtil.parseWhen(whens.get(0)).getWhen();
+        LocalDateTime end = ParserUtil.parseWhen(whens.get(1)).getWhen();
+        if (start.isAfter(end)) {
+            throw new ParseException(MESSAGE_START_AFTER_END);
+        }
+        return new ListMeetingCommand(start, end);
+    }
+
+    private static ListMeetingCommand parseCount(String preamble) throws ParseException {
+        if (preamble.isEmpty()) {
+            return new ListMeetingCommand(ListMeetingCommand.DEFAULT_COUNT);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(preamble)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListMeetingCommand.MESSAGE_USAGE));
+        }
+        return new ListMeetingCommand(Integer.parseInt(preamble));
+    }
+}
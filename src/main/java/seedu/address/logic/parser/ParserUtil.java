@@ -159,9 +159,9 @@ public class ParserUtil {
 
         assert !parametersAndLabels.isEmpty() : "Issue with extractParametersAndLabels: the list returned is empty";
 
-        String loggerMessage = String.format("Successfully extracted %ss and labels of size: %d.", parameterName,
-                parametersAndLabels.size());
-        logger.info(loggerMessage);
+        // called for every email, address and other phone number validated, including those loaded from storage
+        logger.fine(() -> String.format("Successfully extracted %ss and labels of size: %d.", parameterName,
+                parametersAndLabels.size()));
 
         return parametersAndLabels;
     }
@@ -369,7 +369,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -396,7 +396,7 @@ public class ParserUtil {
         if (!MeetingName.isValidMeetingName(trimmedMeetingName)) {
             throw new ParseException(MeetingName.MESSAGE_CONSTRAINTS);
         }
-        return new MeetingName(trimmedMeetingName);
+        return MeetingName.of(trimmedMeetingName);
     }
 
     /**
@@ -411,7 +411,7 @@ public class ParserUtil {
         if (!Venue.isValidVenue(trimmedVenue)) {
             throw new ParseException(Venue.MESSAGE_CONSTRAINTS);
         }
-        return new Venue(trimmedVenue);
+        return Venue.of(trimmedVenue);
     }
 
     /**
@@ -424,7 +424,6 @@ public class ParserUtil {
         requireNonNull(when);
         String trimmedWhen = when.trim();
         // This call will throw ParseException if invalid
-        When.isValidWhen(trimmedWhen);
         return new When(trimmedWhen);
     }
 }
@@ -4,9 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.MeetingIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -16,6 +19,8 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final PersonIndex personIndex;
+    private final MeetingIndex meetingIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +31,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        personIndex = new PersonIndex();
+        meetingIndex = new MeetingIndex();
+        // registered before any other listener, so that the indexes are up to date when they are notified
+        persons.asUnmodifiableObservableList().addListener(this::updateIndexes);
     }
 
     public AddressBook() {}
@@ -94,6 +103,48 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Applies {@code change} to the persons in the address book.
+     * The persons in {@code change.getRemoved()} must be those at {@code change.getFrom()} in the address book.
+     */
+    public void applyChange(AddressBookChange change) {
+        requireNonNull(change);
+        assert persons.asUnmodifiableObservableList()
+                .subList(change.getFrom(), change.getFrom() + change.getRemoved().size())
+                .equals(change.getRemoved());
+
+        persons.replace(change.getFrom(), change.getRemoved().size(), change.getAdded());
+    }
+
+    /**
+     * Returns the index of the words in the names, tags and meeting names of the persons in the address book.
+     */
+    public PersonIndex getPersonIndex() {
+        return personIndex;
+    }
+
+    /**
+     * Returns the index of the meetings of the persons in the address book, in chronological order.
+     */
+    public MeetingIndex getMeetingIndex() {
+        return meetingIndex;
+    }
+
+    private void updateIndexes(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Person removed : change.getRemoved()) {
+                personIndex.remove(removed);
+                meetingIndex.remove(removed);
+            }
+            for (Person added : change.getAddedSubList()) {
+                personIndex.add(added);
+                meetingIndex.add(added);
+            }
+        }
+    }
 
     //// util methods
 
@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a single change to the person list of an address book: starting at position {@code from},
+ * the persons in {@code removed} were replaced by the persons in {@code added}.
+ * Additions, edits and deletions of persons (including edits to their meetings) are all expressed this way.
+ * Guarantees: immutable.
+ */
+public class AddressBookChange {
+
+    private final int from;
+    private final List<Person> removed;
+    private final List<Person> added;
+
+    /**
+     * Every field must be present and not null, and {@code from} must not be negative.
+     */
+    public AddressBookChange(int from, List<? extends Person> removed, List<? extends Person> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        checkArgument(from >= 0, "Change position must not be negative");
+        this.from = from;
+        this.removed = List.copyOf(removed);
+        this.added = List.copyOf(added);
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<Person> getRemoved() {
+        return removed;
+    }
+
+    public List<Person> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the change that undoes this change, i.e. replaces the persons in {@code added} by those in
+     * {@code removed}.
+     */
+    public AddressBookChange inverse() {
+        return new AddressBookChange(from, added, removed);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return from == otherChange.from
+                && removed.equals(otherChange.removed)
+                && added.equals(otherChange.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("removed", removed)
+                .add("added", added)
+                .toString();
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the persons in an address book.
+ * As neither the snapshot nor its persons ever change, a snapshot can be read from any thread without locking,
+ * once it has been safely published to that thread.
+ * A snapshot taken by {@link #withChanges(List)} only works out its persons when they are first read, so that
+ * taking a snapshot after every change takes time proportional to the change, not to the address book.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    // Guards the earlier snapshots and changes of the snapshots whose persons have yet to be worked out
+    private static final Object resolveLock = new Object();
+
+    private volatile ObservableList<Person> persons;
+    private AddressBookSnapshot previous;
+    private List<AddressBookChange> changes;
+
+    private AddressBookSnapshot(List<Person> persons) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    private AddressBookSnapshot(AddressBookSnapshot previous, List<AddressBookChange> changes) {
+        this.previous = previous;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns a snapshot of the persons currently in {@code addressBook}, which is not affected by later changes to
+     * {@code addressBook}. If {@code addressBook} is already a snapshot, it is returned as is.
+     */
+    public static AddressBookSnapshot copyOf(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        return new AddressBookSnapshot(List.copyOf(addressBook.getPersonList()));
+    }
+
+    /**
+     * Returns a snapshot of the persons in this snapshot after {@code changes} are made, in order.
+     * The persons of the returned snapshot are only worked out when they are first read.
+     */
+    public AddressBookSnapshot withChanges(List<AddressBookChange> changes) {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return this;
+        }
+        return new AddressBookSnapshot(this, List.copyOf(changes));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        ObservableList<Person> resolvedPersons = persons;
+        if (resolvedPersons != null) {
+            return resolvedPersons;
+        }
+
+        synchronized (resolveLock) {
+            if (persons == null) {
+                resolve();
+            }
+            return persons;
+        }
+    }
+
+    /**
+     * Works out the persons in this snapshot from the nearest earlier snapshot whose persons are known, then lets
+     * go of the earlier snapshots and changes. Must be called while holding {@code resolveLock}.
+     */
+    private void resolve() {
+        Deque<AddressBookSnapshot> unresolvedSnapshots = new ArrayDeque<>();
+        AddressBookSnapshot snapshot = this;
+        while (snapshot.persons == null) {
+            unresolvedSnapshots.push(snapshot);
+            snapshot = snapshot.previous;
+        }
+
+        List<Person> resolvedPersons = new ArrayList<>(snapshot.persons);
+        while (!unresolvedSnapshots.isEmpty()) {
+            for (AddressBookChange change : unresolvedSnapshots.pop().changes) {
+                resolvedPersons.subList(change.getFrom(), change.getFrom() + change.getRemoved().size()).clear();
+                resolvedPersons.addAll(change.getFrom(), change.getAdded());
+            }
+        }
+
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(resolvedPersons)));
+        previous = null;
+        changes = null;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", getPersonList())
+                .toString();
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.MeetingIndex.ScheduledMeeting;
 import seedu.address.model.person.Person;
 
 /**
@@ -78,18 +81,90 @@ public interface Model {
     void setPerson(Person target, Person editedPerson);
 
     /**
-     * Deletes the meeting at index {@code meetingToDelete} from the given person's list of meetings.
+     * Replaces the given person {@code target} with a copy without the meeting at index {@code meetingToDelete},
+     * and returns that copy.
      * {@code target} must exist in the address book.
      * The index must be valid.
      */
-    void deleteMeetingFromPerson(Person target, int meetingToDelete);
+    Person deleteMeetingFromPerson(Person target, int meetingToDelete);
 
     /**
-     * Updates the meeting at index {@code meetingToEdit} from the given person's list of meetings.
+     * Replaces the given person {@code target} with a copy where the meeting at index {@code meetingToEdit} is
+     * {@code editedMeeting}, and returns that copy.
      * {@code target} must exist in the address book.
      * The index must be valid.
      */
-    void editMeeting(Person target, int meetingToEdit, Meeting editedMeeting);
+    Person editMeeting(Person target, int meetingToEdit, Meeting editedMeeting);
+
+    /**
+     * Returns the meetings in the address book from {@code start} to {@code end} inclusive, in chronological order.
+     */
+    List<ScheduledMeeting> getMeetingsBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the first {@code count} meetings in the address book from {@code start} onwards,
+     * in chronological order.
+     */
+    List<ScheduledMeeting> getMeetingsFrom(LocalDateTime start, int count);
+
+    /**
+     * Returns true if the address book has been modified since it was last committed.
+     */
+    boolean hasUncommittedChanges();
+
+    /**
+     * Marks the current state of the address book as committed.
+     * Returns the changes made to the address book since it was last committed, in the order they were made.
+     */
+    List<AddressBookChange> commitAddressBook();
+
+    /**
+     * Replaces the address book data with {@code committedAddressBook}, which must hold the data as it was when the
+     * address book was last committed, and discards the changes made since then.
+     */
+    void rollbackAddressBook(ReadOnlyAddressBook committedAddressBook);
+
+    /**
+     * Adds {@code persons}, which were loaded from storage, to the end of the address book.
+     * Unlike other changes, they are not recorded as uncommitted changes, as they are already saved, and cannot be
+     * undone.
+     */
+    void addLoadedPersons(List<Person> persons);
+
+    /**
+     * Replaces the address book data with {@code addressBook}, the whole address book loaded from storage, once
+     * loading is complete. As with {@link #addLoadedPersons(List)}, this is not recorded as a change.
+     */
+    void setLoadedAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns an immutable snapshot of the address book as it was when it was last committed.
+     * Unlike the other methods of the model, this may be called from any thread, e.g. to read the address book in
+     * the background without blocking the JavaFX application thread.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
+    /**
+     * Returns true if there is an earlier version of the address book to go back to.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone version of the address book to go forward to.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its version before the last committed changes.
+     * There must be such a version.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its version before the last undo.
+     * There must be such a version.
+     */
+    void redoAddressBook();
 
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getPersonList();
@@ -4,25 +4,49 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.list.PersonList;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.MeetingIndex.ScheduledMeeting;
 import seedu.address.model.person.Person;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    /** The number of versions of the address book that can be undone. */
+    public static final int UNDO_LIMIT = 100;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final PersonList personList;
+    private final List<AddressBookChange> uncommittedChanges = new ArrayList<>();
+
+    // Versions of the address book are kept as the changes between them, which refer to the same immutable persons
+    // as the address book, so each version only takes memory in proportion to the number of persons changed.
+    private final List<AddressBookChange> unversionedChanges = new ArrayList<>();
+    private final Deque<List<AddressBookChange>> undoHistory = new ArrayDeque<>();
+    private final Deque<List<AddressBookChange>> redoHistory = new ArrayDeque<>();
+    private boolean isChangingVersion;
+    private boolean isLoadingData;
+
+    // Published for readers on other threads, which must not touch the observable lists of the address book
+    private final AtomicReference<AddressBookSnapshot> committedSnapshot = new AtomicReference<>();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,6 +59,8 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         personList = new PersonList(this.addressBook.getPersonList());
+        this.addressBook.getPersonList().addListener(this::recordChange);
+        committedSnapshot.set(AddressBookSnapshot.copyOf(this.addressBook));
     }
 
     public ModelManager() {
@@ -113,14 +139,168 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void deleteMeetingFromPerson(Person target, int meetingToDelete) {
-        target.removeMeeting(meetingToDelete);
+    public Person deleteMeetingFromPerson(Person target, int meetingToDelete) {
+        requireNonNull(target);
+        Person editedPerson = target.withoutMeeting(meetingToDelete);
+        setPerson(target, editedPerson);
+        return editedPerson;
     }
 
     @Override
-    public void editMeeting(Person target, int meetingToEdit, Meeting editedMeeting) {
+    public Person editMeeting(Person target, int meetingToEdit, Meeting editedMeeting) {
         requireAllNonNull(target, editedMeeting);
-        target.editMeeting(meetingToEdit, editedMeeting);
+        Person editedPerson = target.withEditedMeeting(meetingToEdit, editedMeeting);
+        setPerson(target, editedPerson);
+        return editedPerson;
+    }
+
+    @Override
+    public List<ScheduledMeeting> getMeetingsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return addressBook.getMeetingIndex().getMeetingsBetween(start, end);
+    }
+
+    @Override
+    public List<ScheduledMeeting> getMeetingsFrom(LocalDateTime start, int count) {
+        requireNonNull(start);
+        return addressBook.getMeetingIndex().getMeetingsFrom(start, count);
+    }
+
+    @Override
+    public boolean hasUncommittedChanges() {
+        return !uncommittedChanges.isEmpty();
+    }
+
+    @Override
+    public List<AddressBookChange> commitAddressBook() {
+        recordVersion();
+        List<AddressBookChange> committedChanges = new ArrayList<>(uncommittedChanges);
+        uncommittedChanges.clear();
+        // the snapshot only works out its persons when first read, which is usually by the background writer
+        committedSnapshot.set(committedSnapshot.get().withChanges(committedChanges));
+        return committedChanges;
+    }
+
+    @Override
+    public void rollbackAddressBook(ReadOnlyAddressBook committedAddressBook) {
+        requireNonNull(committedAddressBook);
+        addressBook.resetData(committedAddressBook);
+        uncommittedChanges.clear();
+        unversionedChanges.clear();
+    }
+
+    @Override
+    public void addLoadedPersons(List<Person> persons) {
+        requireNonNull(persons);
+        AddressBookChange addition = new AddressBookChange(addressBook.getPersonList().size(),
+                Collections.emptyList(), persons);
+        loadData(() -> addressBook.applyChange(addition));
+    }
+
+    @Override
+    public void setLoadedAddressBook(ReadOnlyAddressBook loadedAddressBook) {
+        requireNonNull(loadedAddressBook);
+        // usually the persons were all added already, unless e.g. the journal changed them
+        if (!addressBook.getPersonList().equals(loadedAddressBook.getPersonList())) {
+            loadData(() -> addressBook.resetData(loadedAddressBook));
+        }
+        committedSnapshot.set(AddressBookSnapshot.copyOf(addressBook));
+    }
+
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return committedSnapshot.get();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return !unversionedChanges.isEmpty() || !undoHistory.isEmpty();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return unversionedChanges.isEmpty() && !redoHistory.isEmpty();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        assert canUndoAddressBook();
+        recordVersion();
+        List<AddressBookChange> changes = undoHistory.pop();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            applyVersionChange(changes.get(i).inverse());
+        }
+        redoHistory.push(changes);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        assert canRedoAddressBook();
+        List<AddressBookChange> changes = redoHistory.pop();
+        for (AddressBookChange change : changes) {
+            applyVersionChange(change);
+        }
+        undoHistory.push(changes);
+    }
+
+    /**
+     * Makes the changes since the last version of the address book a new version, which replaces any undone versions.
+     */
+    private void recordVersion() {
+        if (unversionedChanges.isEmpty()) {
+            return;
+        }
+        undoHistory.push(List.copyOf(unversionedChanges));
+        unversionedChanges.clear();
+        if (undoHistory.size() > UNDO_LIMIT) {
+            undoHistory.removeLast();
+        }
+        redoHistory.clear();
+    }
+
+    /**
+     * Runs {@code load}, which changes the address book to data loaded from storage, without recording the changes.
+     */
+    private void loadData(Runnable load) {
+        isLoadingData = true;
+        try {
+            load.run();
+        } finally {
+            isLoadingData = false;
+        }
+    }
+
+    /**
+     * Applies {@code change} to the address book while switching versions, so that it is persisted but does not
+     * start a new version.
+     */
+    private void applyVersionChange(AddressBookChange change) {
+        isChangingVersion = true;
+        try {
+            addressBook.applyChange(change);
+        } finally {
+            isChangingVersion = false;
+        }
+    }
+
+    /**
+     * Records every modification of the person list so that it can be persisted incrementally and undone.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Person> change) {
+        if (isLoadingData) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            AddressBookChange addressBookChange = new AddressBookChange(change.getFrom(), change.getRemoved(),
+                    change.getAddedSubList());
+            uncommittedChanges.add(addressBookChange);
+            if (!isChangingVersion) {
+                unversionedChanges.add(addressBookChange);
+            }
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -138,8 +318,18 @@ public class ModelManager implements Model {
     public void updatePersonListFilter(Predicate<Person>... predicate) {
         requireNonNull(predicate);
 
-        personList.updatePersonListFilter(predicate);
+        // look up persons in the index of the address book, instead of testing every person, where possible
 
+        SearchTrace searchTrace = new SearchTrace();
+        @SuppressWarnings("unchecked")
+        Predicate<Person>[] indexedPredicates = new Predicate[predicate.length];
+        for (int i = 0; i < predicate.length; i++) {
+            indexedPredicates[i] = predicate[i] == null
+                    ? null
+                    : searchTrace.trace(addressBook.getPersonIndex().bind(predicate[i]));
+        }
+        personList.updatePersonListFilter(indexedPredicates);
+        searchTrace.logSummary(personList.size(), addressBook.getPersonList().size());
     }
 
     @Override
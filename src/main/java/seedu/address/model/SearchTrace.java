@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+
+/**
+ * Traces a search through the persons in the address book.
+ * A summary of the search, with the number of persons tested and matched by each predicate and the time taken, is
+ * logged at the {@code INFO} level, and the result of testing each person is logged at the {@code FINEST} level.
+ * Both are logged to a separate logger, so that its level can be set apart from the other loggers.
+ */
+public class SearchTrace {
+    private static final Logger logger = LogsCenter.getLogger(LogsCenter.SEARCH_TRACE_LOGGER_NAME);
+
+    private final long startTime = System.nanoTime();
+    private final List<TracedPredicate> tracedPredicates = new ArrayList<>();
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, and counts them for this search.
+     */
+    public Predicate<Person> trace(Predicate<Person> predicate) {
+        TracedPredicate tracedPredicate = new TracedPredicate(predicate);
+        tracedPredicates.add(tracedPredicate);
+        return tracedPredicate;
+    }
+
+    /**
+     * Logs the summary of this search, which found {@code matchCount} of {@code personCount} persons.
+     */
+    public void logSummary(int matchCount, int personCount) {
+        long elapsedNanos = System.nanoTime() - startTime;
+        logger.info(() -> {
+            StringBuilder summary = new StringBuilder(String.format("Search matched %d of %d persons in %.3f ms",
+                    matchCount, personCount, elapsedNanos / 1_000_000.0));
+            for (TracedPredicate tracedPredicate : tracedPredicates) {
+                summary.append(String.format("%n  %s: tested %d, matched %d", tracedPredicate.predicate,
+                        tracedPredicate.testCount, tracedPredicate.matchCount));
+            }
+            return summary.toString();
+        });
+    }
+
+    /**
+     * A predicate that counts and traces the results of another predicate.
+     */
+    private static class TracedPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private int testCount;
+        private int matchCount;
+
+        private TracedPredicate(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            boolean isMatch = predicate.test(person);
+            testCount++;
+            if (isMatch) {
+                matchCount++;
+            }
+            logger.finest(() -> String.format("%s on %s: %s", predicate, person.getName(), isMatch));
+            return isMatch;
+        }
+    }
+}
@@ -15,6 +15,9 @@ public class Meeting {
     private final Venue venue;
     private final When when;
 
+    // Cached hash code, computed on first use, as for String
+    private int hash;
+
     /**
      * Constructs a {@code Meeting}
      * @param meetingName name of the meeting
@@ -36,8 +39,8 @@ public class Meeting {
      */
     public Meeting(String meetingName, String venue, String when) throws ParseException {
         requireAllNonNull(meetingName, venue, when);
-        this.meetingName = new MeetingName(meetingName);
-        this.venue = new Venue(venue);
+        this.meetingName = MeetingName.of(meetingName);
+        this.venue = Venue.of(venue);
         this.when = new When(when);
     }
 
@@ -85,6 +88,11 @@ public class Meeting {
 
     @Override
     public int hashCode() {
-        return Objects.hash(meetingName, venue, when);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(meetingName, venue, when);
+            hash = h;
+        }
+        return h;
     }
 }
@@ -3,6 +3,9 @@ package seedu.address.model.meeting;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.Interner;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -20,6 +23,8 @@ public class MeetingName {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^(?=.*\\p{L}|\\d)[\\p{L}\\p{M}0-9 '\\s.()/&,-]+$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<MeetingName> INTERNER = new Interner<>();
 
     public static final String MESSAGE_MEETING_NAME_EXCEED_MAX_LENGTH = String.format(
             "Meeting name should not be longer than %d characters!", MAX_MEETING_NAME_CHAR_LENGTH
@@ -42,6 +47,16 @@ public class MeetingName {
         meetingName = name;
     }
 
+    /**
+     * Returns the shared {@code MeetingName} with the given {@code name}.
+     * Equal meeting names obtained from this method are the same object.
+     *
+     * @param name A valid meeting name.
+     */
+    public static MeetingName of(String name) {
+        return INTERNER.intern(new MeetingName(name));
+    }
+
     /**
      * Returns true if a given string is a valid meeting name.
      */
@@ -50,7 +65,7 @@ public class MeetingName {
             throw new ParseException(MESSAGE_MEETING_NAME_EXCEED_MAX_LENGTH);
         }
 
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public boolean isBlank() {
@@ -3,6 +3,9 @@ package seedu.address.model.meeting;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.Interner;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -20,6 +23,8 @@ public class Venue {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^(?=.*[\\p{L}\\d])[\\p{L}\\p{M}\\d ,.'()#&@:\\-/]+$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<Venue> INTERNER = new Interner<>();
 
     public static final String MESSAGE_VENUE_EXCEED_MAX_LENGTH = String.format(
             "Venue should not be longer than %d characters!", MAX_VENUE_CHAR_LENGTH
@@ -42,6 +47,16 @@ public class Venue {
         value = venue;
     }
 
+    /**
+     * Returns the shared {@code Venue} with the given {@code venue}.
+     * Equal venues obtained from this method are the same object.
+     *
+     * @param venue A valid venue.
+     */
+    public static Venue of(String venue) {
+        return INTERNER.intern(new Venue(venue));
+    }
+
     /**
      * Returns true if a given string is a valid venue.
      */
@@ -50,7 +65,7 @@ public class Venue {
             throw new ParseException(MESSAGE_VENUE_EXCEED_MAX_LENGTH);
         }
 
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public boolean isBlank() {
@@ -29,9 +29,9 @@ public class When {
      */
     public When(String when) throws ParseException {
         requireNonNull(when);
-        checkArgument(isValidWhen(when), MESSAGE_CONSTRAINTS);
+        // parsing throws the same ParseException as isValidWhen(String) if the given string is invalid
         value = DateTimeParser.parseDateTime(when);
-        logger.info(String.format("Supplied: %s, Result: %s", when, value));
+        logger.fine(() -> String.format("Supplied: %s, Result: %s", when, value));
     }
 
     /**
@@ -55,7 +55,7 @@ public class When {
      */
     public static boolean isValidWhen(String test) throws ParseException {
         LocalDateTime result = DateTimeParser.parseDateTime(test);
-        logger.info(String.format("Supplied: %s, Result: %s", test, result));
+        logger.fine(() -> String.format("Supplied: %s, Result: %s", test, result));
         return true;
     }
 
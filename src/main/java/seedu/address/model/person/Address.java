@@ -8,6 +8,7 @@ import static seedu.address.model.util.ValidationUtil.isParameterAndLabelsValid;
 
 import java.util.List;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -31,6 +32,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String ADDRESS_VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern ADDRESS_VALIDATION_PATTERN = Pattern.compile(ADDRESS_VALIDATION_REGEX);
     public static final String ERROR_MESSAGE_DISPLAY_NAME = "address";
     private static final Logger logger = LogsCenter.getLogger(Address.class);
     private static final int FIELD_MAXIMUM_LENGTH = 200;
@@ -104,7 +106,7 @@ public class Address {
      * @throws ParseException If there are duplicate addresses/labels.
      */
     private static boolean isAddressesAndLabelsValid(List<String> list) throws ParseException {
-        return isParameterAndLabelsValid(list, ADDRESS_VALIDATION_REGEX, ERROR_MESSAGE_DISPLAY_NAME);
+        return isParameterAndLabelsValid(list, ADDRESS_VALIDATION_PATTERN, ERROR_MESSAGE_DISPLAY_NAME);
     }
 
     @Override
@@ -8,6 +8,7 @@ import static seedu.address.model.util.ValidationUtil.isParameterAndLabelsValid;
 
 import java.util.List;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -48,6 +49,7 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String EMAIL_VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern EMAIL_VALIDATION_PATTERN = Pattern.compile(EMAIL_VALIDATION_REGEX);
     private static final int FIELD_MAXIMUM_LENGTH = 200;
     public final String value;
     /**
@@ -120,7 +122,7 @@ public class Email {
      * @throws ParseException If there are duplicate emails/labels.
      */
     private static boolean isEmailsAndLabelsValid(List<String> list) throws ParseException {
-        return isParameterAndLabelsValid(list, EMAIL_VALIDATION_REGEX, ERROR_MESSAGE_DISPLAY_NAME);
+        return isParameterAndLabelsValid(list, EMAIL_VALIDATION_PATTERN, ERROR_MESSAGE_DISPLAY_NAME);
     }
 
     @Override
@@ -0,0 +1,17 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} whose matching persons can be looked up in a {@code PersonIndex},
+ * instead of testing every person.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code index} that match this predicate,
+     * or null if the matching persons cannot be looked up in {@code index}.
+     */
+    Set<Person> getMatchingPersons(PersonIndex index);
+}
@@ -0,0 +1,140 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.meeting.Meeting;
+
+/**
+ * An index of the meetings of persons, in chronological order.
+ * Persons are compared by identity, as the index refers to the exact {@code Person} objects in the list.
+ */
+public class MeetingIndex {
+
+    private final NavigableMap<LocalDateTime, List<ScheduledMeeting>> meetingsByDateTime = new TreeMap<>();
+
+    /**
+     * Adds the meetings of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Meeting meeting : person.getMeetings()) {
+            meetingsByDateTime.computeIfAbsent(meeting.getDateTime(), unused -> new ArrayList<>())
+                    .add(new ScheduledMeeting(person, meeting));
+        }
+    }
+
+    /**
+     * Removes the meetings of {@code person} from the index.
+     * {@code person} must not have changed since it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Meeting meeting : person.getMeetings()) {
+            List<ScheduledMeeting> scheduledMeetings = meetingsByDateTime.get(meeting.getDateTime());
+            if (scheduledMeetings == null) {
+                continue;
+            }
+            scheduledMeetings.removeIf(scheduledMeeting -> scheduledMeeting.person == person);
+            if (scheduledMeetings.isEmpty()) {
+                meetingsByDateTime.remove(meeting.getDateTime());
+            }
+        }
+    }
+
+    /**
+     * Returns the meetings from {@code start} to {@code end} inclusive, in chronological order.
+     */
+    public List<ScheduledMeeting> getMeetingsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        List<ScheduledMeeting> result = new ArrayList<>();
+        if (start.isAfter(end)) {
+            return result;
+        }
+        for (List<ScheduledMeeting> scheduledMeetings : meetingsByDateTime.subMap(start, true, end, true).values()) {
+            result.addAll(scheduledMeetings);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first {@code count} meetings from {@code start} onwards, in chronological order.
+     */
+    public List<ScheduledMeeting> getMeetingsFrom(LocalDateTime start, int count) {
+        requireNonNull(start);
+        List<ScheduledMeeting> result = new ArrayList<>();
+        for (Map.Entry<LocalDateTime, List<ScheduledMeeting>> entry : meetingsByDateTime.tailMap(start, true)
+                .entrySet()) {
+            for (ScheduledMeeting scheduledMeeting : entry.getValue()) {
+                if (result.size() == count) {
+                    return result;
+                }
+                result.add(scheduledMeeting);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A meeting together with the person it is with.
+     */
+    public static class ScheduledMeeting {
+        private final Person person;
+        private final Meeting meeting;
+
+        /**
+         * Creates a {@code ScheduledMeeting} for {@code meeting} with {@code person}.
+         */
+        public ScheduledMeeting(Person person, Meeting meeting) {
+            requireAllNonNull(person, meeting);
+            this.person = person;
+            this.meeting = meeting;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        public Meeting getMeeting() {
+            return meeting;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ScheduledMeeting)) {
+                return false;
+            }
+
+            ScheduledMeeting otherScheduledMeeting = (ScheduledMeeting) other;
+            return person.equals(otherScheduledMeeting.person)
+                    && meeting.equals(otherScheduledMeeting.meeting);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(person, meeting);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("person", person)
+                    .add("meeting", meeting)
+                    .toString();
+        }
+    }
+}
@@ -1,37 +1,42 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.logging.Logger;
+import java.util.Set;
 
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.meeting.Meeting;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class MeetingNameContainsKeywordsPredicate implements Predicate<Person> {
-    private static final Logger logger = LogsCenter.getLogger(MeetingNameContainsKeywordsPredicate.class);
+public class MeetingNameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final KeywordMatcher keywordMatcher;
 
+    /**
+     * Creates a {@code MeetingNameContainsKeywordsPredicate} for {@code keywords}, which must each be a single word.
+     */
     public MeetingNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.keywordMatcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
         List<Meeting> meetings = person.getMeetings();
 
-        String logMessage = String.format("MeetingNameContainsKeywordsPredicate check using: "
-                + "Keywords=%s and Meetings=%s.", keywords, meetings);
-        logger.info(logMessage);
-
+        for (Meeting meeting : meetings) {
+            if (keywordMatcher.matches(meeting.getMeetingName().meetingName)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return keywords.stream()
-                .anyMatch(keyword -> meetings.stream().anyMatch(meeting
-                        -> StringUtil.containsWordIgnoreCase(meeting.getMeetingName().meetingName, keyword)));
+    @Override
+    public Set<Person> getMatchingPersons(PersonIndex index) {
+        return index.getPersonsWithMeetingNameWords(keywords);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -16,9 +18,12 @@ public class Name {
      */
     public static final String VALIDATION_REGEX_AT_LEAST_ONE_LETTER = "(?=.*(\\p{L})).*";
     public static final String VALIDATION_REGEX_NAME_CONSTRAINTS = "^[\\p{L}\\p{M}0-9 \\-'’./]+$";
-    public static final String VALIDATION_REGEX_NO_SPECIAL_CHAR_START = "^[\\-'’./].*$";
-    public static final String VALIDATION_REGEX_NO_SPECIAL_CHAR_END = "^.*[\\-'’./]$";
-    public static final String VALIDATION_REGEX_NO_CONSECUTIVE_SPECIAL_CHAR = ".*([ \\-'’./])\\1.*";
+
+    // Names cannot start or end with these characters, and cannot repeat them or spaces consecutively
+    private static final String SPECIAL_CHARACTERS = "-'’./";
+
+    private static final Pattern AT_LEAST_ONE_LETTER_PATTERN = Pattern.compile(VALIDATION_REGEX_AT_LEAST_ONE_LETTER);
+    private static final Pattern NAME_CONSTRAINTS_PATTERN = Pattern.compile(VALIDATION_REGEX_NAME_CONSTRAINTS);
 
     public static final int MAX_NAME_CHAR_LENGTH = 95;
 
@@ -69,22 +74,21 @@ public class Name {
             throw new ParseException(MESSAGE_CONSTRAINTS_NO_BLANK_NAME);
         }
 
-        if (!test.matches(VALIDATION_REGEX_AT_LEAST_ONE_LETTER)) {
+        if (!AT_LEAST_ONE_LETTER_PATTERN.matcher(test).matches()) {
             throw new ParseException(MESSAGE_CONSTRAINTS_AT_LEAST_ONE_LETTER);
         }
 
         // If the name does not satisfy the basic constraints
-        if (!test.matches(VALIDATION_REGEX_NAME_CONSTRAINTS)) {
+        if (!NAME_CONSTRAINTS_PATTERN.matcher(test).matches()) {
             throw new ParseException(MESSAGE_CONSTRAINTS);
         }
 
         // If the name starts or ends with a special character
-        if (test.matches(VALIDATION_REGEX_NO_SPECIAL_CHAR_START)
-                || test.matches(VALIDATION_REGEX_NO_SPECIAL_CHAR_END)) {
+        if (isSpecialCharacter(test.charAt(0)) || isSpecialCharacter(test.charAt(test.length() - 1))) {
             throw new ParseException(MESSAGE_CONSTRAINTS_INVALID_START_END);
         }
 
-        if (test.matches(VALIDATION_REGEX_NO_CONSECUTIVE_SPECIAL_CHAR)) {
+        if (hasConsecutiveSpecialCharacters(test)) {
             throw new ParseException(MESSAGE_CONSTRAINTS_NO_CONSECUTIVE_SPECIAL_CHAR);
         }
 
@@ -95,6 +99,23 @@ public class Name {
         return true;
     }
 
+    private static boolean isSpecialCharacter(char c) {
+        return SPECIAL_CHARACTERS.indexOf(c) >= 0;
+    }
+
+    /**
+     * Returns true if {@code test} repeats a space or special character right after itself.
+     */
+    private static boolean hasConsecutiveSpecialCharacters(String test) {
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c == test.charAt(i - 1) && (c == ' ' || isSpecialCharacter(c))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -1,32 +1,34 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.logging.Logger;
+import java.util.Set;
 
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
-    private static final Logger logger = LogsCenter.getLogger(NameContainsKeywordsPredicate.class);
-
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final KeywordMatcher keywordMatcher;
 
+    /**
+     * Creates a {@code NameContainsKeywordsPredicate} for {@code keywords}, which must each be a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.keywordMatcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        String logMessage = String.format("NameContainsKeywordsPredicate check using: "
-                + "Keywords=%s and Name=%s.", keywords, person.getName());
-        logger.info(logMessage);
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return keywordMatcher.matches(person.getName().fullName);
+    }
+
+    @Override
+    public Set<Person> getMatchingPersons(PersonIndex index) {
+        return index.getPersonsWithNameWords(keywords);
     }
 
     @Override
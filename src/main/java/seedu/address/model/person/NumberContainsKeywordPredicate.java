@@ -1,17 +1,13 @@
 package seedu.address.model.person;
 
 import java.util.function.Predicate;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Checks a {@code Person}'s {@code Phone} contains the keywords given.
  */
 public class NumberContainsKeywordPredicate implements Predicate<Person> {
-    private static final Logger logger = LogsCenter.getLogger(NameContainsKeywordsPredicate.class);
-
     private final String keyword;
 
     public NumberContainsKeywordPredicate(String keywords) {
@@ -24,10 +20,6 @@ public class NumberContainsKeywordPredicate implements Predicate<Person> {
      */
     @Override
     public boolean test(Person person) {
-        String logMessage = String.format("NumberContainsKeywordsPredicate check using: "
-                + "Keywords=%s and Number=%s.", keyword, person.getPhone());
-        logger.info(logMessage);
-
         return person.checkNumberContainsKeyword(keyword);
     }
 
@@ -8,6 +8,7 @@ import static seedu.address.model.util.ValidationUtil.isParameterAndLabelsValid;
 
 import java.util.List;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -29,6 +30,7 @@ public class OtherPhones {
     // Single phone number pattern
     private static final String SINGLE_PHONE_REGEX =
             "^\\s*(?:\\+\\d{1,3}\\s*)?\\d{3,}(?:\\s*x\\d+)?\\s*$";
+    private static final Pattern SINGLE_PHONE_PATTERN = Pattern.compile(SINGLE_PHONE_REGEX);
 
     private static final Logger logger = LogsCenter.getLogger(OtherPhones.class);
     private static final String ERROR_MESSAGE_DISPLAY_NAME = "other number";
@@ -92,7 +94,7 @@ public class OtherPhones {
      * @throws ParseException If there are duplicate other numbers/labels.
      */
     public static boolean isPhonesAndLabelsValid(List<String> phones) throws ParseException {
-        return isParameterAndLabelsValid(phones, SINGLE_PHONE_REGEX, ERROR_MESSAGE_DISPLAY_NAME);
+        return isParameterAndLabelsValid(phones, SINGLE_PHONE_PATTERN, ERROR_MESSAGE_DISPLAY_NAME);
     }
 
     /**
@@ -112,7 +114,7 @@ public class OtherPhones {
                 OtherPhones.class.getName().toLowerCase(), otherPhones, false);
 
         for (String currPhone : paramsAndLabels) {
-            if (!currPhone.matches(SINGLE_PHONE_REGEX)) {
+            if (!SINGLE_PHONE_PATTERN.matcher(currPhone).matches()) {
                 continue;
             }
 
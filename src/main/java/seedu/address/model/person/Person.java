@@ -4,19 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The tag set and meeting list are immutable collections, so persons derived from one another share them instead of
+ * copying them. Changes to meetings return a new {@code Person}, which replaces this one in the address book.
  */
 public class Person {
     // Label message used for other identity/data fields
@@ -28,6 +30,7 @@ public class Person {
     // Can contain any alphanumerical characters, space, hyphen. But cannot be made up of space/hyphen only.
     private static final String ALPHANUMERIC_SPACE_HYPHEN = "(?=.*[a-zA-Z0-9])[a-zA-Z0-9 -]+";
     public static final String LABEL_VALIDATION_REGEX = "\\(" + ALPHANUMERIC_SPACE_HYPHEN + "\\)";
+    public static final Pattern LABEL_VALIDATION_PATTERN = Pattern.compile(LABEL_VALIDATION_REGEX);
 
     // Identity fields
     private final Name name;
@@ -37,10 +40,13 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final List<Meeting> meetings = new ArrayList<>();
+    private final TagSet tags;
+    private final List<Meeting> meetings;
     private final FlagStatus flagStatus;
 
+    // Cached hash code, computed on first use, as for String
+    private int hash;
+
     /**
      * Every field must be present and not null.
      */
@@ -54,8 +60,8 @@ public class Person {
         this.otherPhones = otherPhones;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
-        this.meetings.addAll(meetings);
+        this.tags = TagSet.copyOf(tags);
+        this.meetings = List.copyOf(meetings);
         this.flagStatus = isFlagged;
     }
 
@@ -92,11 +98,15 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
+    /**
+     * Returns an immutable meeting list, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
     public List<Meeting> getMeetings() {
-        return Collections.unmodifiableList(meetings);
+        return meetings;
     }
 
     /**
@@ -113,12 +123,29 @@ public class Person {
     }
 
     /**
-     * Removes a meeting from the person's meeting list.
+     * Returns a copy of this person with {@code meeting} added to the end of the meeting list.
+     */
+    public Person withAddedMeeting(Meeting meeting) {
+        requireNonNull(meeting);
+
+        List<Meeting> editedMeetings = new ArrayList<>(meetings.size() + 1);
+        editedMeetings.addAll(meetings);
+        editedMeetings.add(meeting);
+        return withMeetings(editedMeetings);
+    }
+
+    /**
+     * Returns a copy of this person without the meeting at {@code index} of the meeting list.
      *
      * @param index The index of the meeting to be removed.
      */
-    public void removeMeeting(int index) {
-        meetings.remove(index);
+    public Person withoutMeeting(int index) {
+        assert index >= 0;
+        assert index < meetings.size();
+
+        List<Meeting> editedMeetings = new ArrayList<>(meetings);
+        editedMeetings.remove(index);
+        return withMeetings(editedMeetings);
     }
 
     /**
@@ -129,17 +156,23 @@ public class Person {
     }
 
     /**
-     * Edits a meeting from the person's meeting list.
+     * Returns a copy of this person with the meeting at {@code meetingToEdit} of the meeting list replaced.
      *
      * @param meetingToEdit the index of the meeting to be edited.
      * @param meeting the updated meeting to replace the old meeting.
      */
-    public void editMeeting(int meetingToEdit, Meeting meeting) {
+    public Person withEditedMeeting(int meetingToEdit, Meeting meeting) {
         assert meetingToEdit >= 0;
         assert meetingToEdit < meetings.size();
         requireNonNull(meeting);
 
-        meetings.set(meetingToEdit, meeting);
+        List<Meeting> editedMeetings = new ArrayList<>(meetings);
+        editedMeetings.set(meetingToEdit, meeting);
+        return withMeetings(editedMeetings);
+    }
+
+    private Person withMeetings(List<Meeting> editedMeetings) {
+        return new Person(name, phone, otherPhones, email, address, tags, editedMeetings, flagStatus);
     }
 
     /**
@@ -170,6 +203,9 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
+        if (hash != 0 && otherPerson.hash != 0 && hash != otherPerson.hash) {
+            return false;
+        }
         return name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
@@ -181,8 +217,13 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, flagStatus);
+        int h = hash;
+        if (h == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            h = Objects.hash(name, phone, email, address, tags, meetings, flagStatus);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
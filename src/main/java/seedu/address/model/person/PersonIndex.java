@@ -0,0 +1,183 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the words in the names, tags and meeting names of persons to the persons containing them.
+ * Words are separated by whitespace and matched case-insensitively, in the same way as {@link KeywordMatcher}.
+ * Persons are kept in identity-based sets, as the index refers to the exact {@code Person} objects in the list.
+ */
+public class PersonIndex {
+
+    private final Map<String, Set<Person>> personsByNameWord = new HashMap<>();
+    private final Map<String, Set<Person>> personsByTagWord = new HashMap<>();
+    private final Map<String, Set<Person>> personsByMeetingNameWord = new HashMap<>();
+    private long version;
+
+    /**
+     * Returns a number that changes every time persons are added to or removed from the index.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Adds the words of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        addWords(personsByNameWord, person.getName().fullName, person);
+        for (Tag tag : person.getTags()) {
+            addWords(personsByTagWord, tag.tagName, person);
+        }
+        for (Meeting meeting : person.getMeetings()) {
+            addWords(personsByMeetingNameWord, meeting.getMeetingName().meetingName, person);
+        }
+        version++;
+    }
+
+    /**
+     * Removes the words of {@code person} from the index.
+     * {@code person} must not have changed since it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        removeWords(personsByNameWord, person.getName().fullName, person);
+        for (Tag tag : person.getTags()) {
+            removeWords(personsByTagWord, tag.tagName, person);
+        }
+        for (Meeting meeting : person.getMeetings()) {
+            removeWords(personsByMeetingNameWord, meeting.getMeetingName().meetingName, person);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the persons with a name containing any of {@code words}.
+     */
+    public Set<Person> getPersonsWithNameWords(Collection<String> words) {
+        return getPersonsWithWords(personsByNameWord, words);
+    }
+
+    /**
+     * Returns the persons with a tag containing any of {@code words}.
+     */
+    public Set<Person> getPersonsWithTagWords(Collection<String> words) {
+        return getPersonsWithWords(personsByTagWord, words);
+    }
+
+    /**
+     * Returns the persons with a meeting name containing any of {@code words}.
+     */
+    public Set<Person> getPersonsWithMeetingNameWords(Collection<String> words) {
+        return getPersonsWithWords(personsByMeetingNameWord, words);
+    }
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, but tests persons by looking them up in
+     * the persons matching {@code predicate}, which are only found again after this index changes.
+     * Predicates that are not {@code IndexedPredicate}s are returned unchanged.
+     */
+    public Predicate<Person> bind(Predicate<Person> predicate) {
+        if (!(predicate instanceof IndexedPredicate)) {
+            return predicate;
+        }
+        return new BoundPredicate((IndexedPredicate) predicate);
+    }
+
+    /**
+     * Returns {@code word} in a form where words that are equal ignoring case are identical.
+     * Each character is folded as in {@link String#equalsIgnoreCase(String)}.
+     */
+    static String foldCase(String word) {
+        char[] folded = new char[word.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    private static void addWords(Map<String, Set<Person>> index, String sentence, Person person) {
+        forEachWord(sentence, word -> index.computeIfAbsent(word, unused -> newIdentitySet()).add(person));
+    }
+
+    private static void removeWords(Map<String, Set<Person>> index, String sentence, Person person) {
+        forEachWord(sentence, word -> {
+            Set<Person> persons = index.get(word);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                index.remove(word);
+            }
+        });
+    }
+
+    /**
+     * Passes every whitespace-separated word in {@code sentence}, with its case folded, to {@code action}.
+     */
+    private static void forEachWord(String sentence, Consumer<String> action) {
+        int length = sentence.length();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length && !KeywordMatcher.isWordSeparator(sentence.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                action.accept(foldCase(sentence.substring(start, end)));
+            }
+            start = end + 1;
+        }
+    }
+
+    private static Set<Person> getPersonsWithWords(Map<String, Set<Person>> index, Collection<String> words) {
+        requireNonNull(words);
+        Set<Person> result = newIdentitySet();
+        for (String word : words) {
+            result.addAll(index.getOrDefault(foldCase(word.trim()), Collections.emptySet()));
+        }
+        return result;
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * An {@code IndexedPredicate} answered from this index.
+     */
+    private class BoundPredicate implements Predicate<Person> {
+        private final IndexedPredicate predicate;
+        private long matchesVersion = -1;
+        private Set<Person> matches;
+
+        private BoundPredicate(IndexedPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (matchesVersion != version) {
+                matches = predicate.getMatchingPersons(PersonIndex.this);
+                matchesVersion = version;
+            }
+            return matches == null ? predicate.test(person) : matches.contains(person);
+        }
+
+        @Override
+        public String toString() {
+            return predicate.toString();
+        }
+    }
+}
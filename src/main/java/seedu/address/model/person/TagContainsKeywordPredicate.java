@@ -2,39 +2,44 @@ package seedu.address.model.person;
 
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
 
 /**
  * Checks a {@code Person}'s {@code Tag} matches any of the keywords given.
  */
-public class TagContainsKeywordPredicate implements Predicate<Person> {
-    private static final Logger logger = LogsCenter.getLogger(NameContainsKeywordsPredicate.class);
-
+public class TagContainsKeywordPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final KeywordMatcher keywordMatcher;
 
+    /**
+     * Creates a {@code TagContainsKeywordPredicate} for {@code keywords}, which must each be a single word.
+     */
     public TagContainsKeywordPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.keywordMatcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
         Set<Tag> tags = person.getTags();
 
-        String logMessage = String.format("TagContainsKeywordsPredicate check using: "
-                + "Keywords=%s and tags=%s.", keywords, tags);
-        logger.info(logMessage);
+        if (keywords.isEmpty()) {
+            return true;
+        }
+        for (Tag tag : tags) {
+            if (keywordMatcher.matches(tag.tagName)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return keywords.isEmpty() || keywords.stream()
-                .anyMatch(keyword ->
-                        tags.stream().anyMatch(
-                                tag -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword)
-                        ));
+    @Override
+    public Set<Person> getMatchingPersons(PersonIndex index) {
+        return keywords.isEmpty() ? null : index.getPersonsWithTagWords(keywords);
     }
 
     @Override
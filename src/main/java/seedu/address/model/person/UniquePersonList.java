@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +21,8 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Persons are additionally indexed by {@code Phone} (the identity field used by {@code Person#isSamePerson(Person)})
+ * so that identity lookups do not need to scan the whole list.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -27,13 +31,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Integer> indexByPhone = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return indexByPhone.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -45,6 +50,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        indexByPhone.put(toAdd.getPhone(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -56,7 +62,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +71,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        indexByPhone.remove(target.getPhone());
+        indexByPhone.put(editedPerson.getPhone(), index);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +82,62 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        indexByPhone.remove(toRemove.getPhone());
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            indexByPhone.put(internalList.get(i).getPhone(), i);
+        }
+    }
+
+    /**
+     * Replaces the {@code count} persons starting at position {@code from} with {@code persons}.
+     * The persons in the resulting list must be unique.
+     */
+    public void replace(int from, int count, List<Person> persons) {
+        requireAllNonNull(persons);
+        if (from < 0 || count < 0 || from + count > internalList.size()) {
+            throw new IndexOutOfBoundsException("Cannot replace " + count + " persons at position " + from);
+        }
+
+        Map<Phone, Integer> replacementIndex = indexPersons(persons);
+        if (replacementIndex == null) {
+            throw new DuplicatePersonException();
+        }
+        for (Phone phone : replacementIndex.keySet()) {
+            Integer index = indexByPhone.get(phone);
+            if (index != null && (index < from || index >= from + count)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        for (int i = from; i < from + count; i++) {
+            indexByPhone.remove(internalList.get(i).getPhone());
+        }
+        if (count == persons.size()) {
+            // replaced one by one, so that the list reports replacements rather than removals and additions
+            for (int i = 0; i < count; i++) {
+                indexByPhone.put(persons.get(i).getPhone(), from + i);
+                internalList.set(from + i, persons.get(i));
+            }
+            return;
+        }
+
+        internalList.subList(from, from + count).clear();
+        internalList.addAll(from, persons);
+        for (int i = from; i < internalList.size(); i++) {
+            indexByPhone.put(internalList.get(i).getPhone(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        indexByPhone.clear();
+        indexByPhone.putAll(replacement.indexByPhone);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +147,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Phone, Integer> replacementIndex = indexPersons(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
+        indexByPhone.clear();
+        indexByPhone.putAll(replacementIndex);
         internalList.setAll(persons);
     }
 
@@ -135,16 +195,26 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is no such person.
+     */
+    private int indexOf(Person person) {
+        Integer index = indexByPhone.get(person.getPhone());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns a phone-to-position index of {@code persons}, or null if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Phone, Integer> indexPersons(List<Person> persons) {
+        Map<Phone, Integer> index = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (index.putIfAbsent(persons.get(i).getPhone(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,122 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, stored as an array sorted by tag name.
+ * Iterates in tag name order, and throws {@code UnsupportedOperationException} if modification is attempted.
+ * As a {@code TagSet} never changes, it is shared rather than copied, e.g. between a person and its edited copies.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private final Tag[] tags;
+
+    // Cached hash code, computed on first use, as for String
+    private int hash;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a {@code TagSet} containing the distinct tags in {@code tags}.
+     * If {@code tags} is already a {@code TagSet}, it is returned as is.
+     */
+    public static TagSet copyOf(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = tags.toArray(new Tag[0]);
+        for (Tag tag : sortedTags) {
+            requireNonNull(tag);
+        }
+        Arrays.sort(sortedTags, TAG_NAME_ORDER);
+
+        int distinctCount = 0;
+        for (Tag tag : sortedTags) {
+            if (distinctCount == 0 || !sortedTags[distinctCount - 1].equals(tag)) {
+                sortedTags[distinctCount++] = tag;
+            }
+        }
+        return new TagSet(distinctCount == sortedTags.length ? sortedTags : Arrays.copyOf(sortedTags, distinctCount));
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        // instanceof handles nulls
+        if (!(other instanceof Tag)) {
+            return false;
+        }
+        return Arrays.binarySearch(tags, (Tag) other, TAG_NAME_ORDER) >= 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        // the iterator of Arrays.asList does not support removal
+        return Arrays.asList(tags).iterator();
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            // both arrays are sorted and hold distinct tags
+            return Arrays.equals(tags, ((TagSet) other).tags);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = super.hashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.meeting.Meeting;
@@ -26,6 +27,8 @@ public class SampleDataUtil {
 
     public static final List<Meeting> EMPTY_MEETING_LIST = Collections.emptyList();
 
+    private static final long SYNTHETIC_PHONE_START = 80000000L;
+
     public static Person[] getSamplePersons() {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"),
@@ -75,12 +78,52 @@ public class SampleDataUtil {
         return sampleAb;
     }
 
+    /**
+     * Returns {@code count} distinct persons based on the sample persons, for measuring performance with large
+     * address books. Each person has a different main phone number, and every third person has a meeting.
+     */
+    public static Person[] getSyntheticPersons(int count) {
+        Person[] samples = getSamplePersons();
+        List<Meeting> meetings = getSyntheticMeetings();
+        Person[] persons = new Person[count];
+        for (int i = 0; i < count; i++) {
+            Person sample = samples[i % samples.length];
+            persons[i] = new Person(sample.getName(), new Phone(String.valueOf(SYNTHETIC_PHONE_START + i)),
+                    sample.getOtherPhones(), sample.getEmail(), sample.getAddress(), sample.getTags(),
+                    i % 3 == 0 ? List.of(meetings.get(i % meetings.size())) : EMPTY_MEETING_LIST,
+                    sample.getFlagStatus());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book containing {@code count} synthetic persons.
+     *
+     * @see #getSyntheticPersons(int)
+     */
+    public static AddressBook getSyntheticAddressBook(int count) {
+        AddressBook syntheticAb = new AddressBook();
+        syntheticAb.setPersons(Arrays.asList(getSyntheticPersons(count)));
+        return syntheticAb;
+    }
+
+    private static List<Meeting> getSyntheticMeetings() {
+        try {
+            return List.of(
+                    new Meeting("Financial advice sharing", "AMK Hub", "2025-11-01 1600"),
+                    new Meeting("Insurance review", "Starbucks at J8", "2025-10-05 1600"),
+                    new Meeting("Annual townhall meeting", "Online", "2025-12-15 0930"));
+        } catch (ParseException pe) {
+            throw new AssertionError("Synthetic meetings should be valid", pe);
+        }
+    }
+
     /**
      * Returns a tag set containing the list of strings given.
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
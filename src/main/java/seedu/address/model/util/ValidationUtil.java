@@ -1,10 +1,11 @@
 package seedu.address.model.util;
 
-import static seedu.address.model.person.Person.LABEL_VALIDATION_REGEX;
+import static seedu.address.model.person.Person.LABEL_VALIDATION_PATTERN;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -15,12 +16,12 @@ public class ValidationUtil {
     /**
      * Validates a list of parameters and labels and check if they are valid.
      * @param list The list of parameters and labels.
-     * @param parameterRegex The regex to validate the parameter.
+     * @param parameterPattern The pattern to validate the parameter.
      * @param parameterName The actual parameter name used in exception messages.
      * @return A boolean indicating if the parameters and labels are valid.
      * @throws ParseException If there are duplicate parameters/labels.
      */
-    public static boolean isParameterAndLabelsValid(List<String> list, String parameterRegex,
+    public static boolean isParameterAndLabelsValid(List<String> list, Pattern parameterPattern,
             String parameterName) throws ParseException {
         // If true we are checking if the email is valid, if it is false we are checking if label is valid.
         boolean checkParameter = true;
@@ -50,11 +51,11 @@ public class ValidationUtil {
             }
 
             // Validates parameter/label
-            if (checkParameter && !currString.matches(parameterRegex)) {
+            if (checkParameter && !parameterPattern.matcher(currString).matches()) {
                 return false;
             }
 
-            if (!checkParameter && !currString.matches(LABEL_VALIDATION_REGEX)) {
+            if (!checkParameter && !LABEL_VALIDATION_PATTERN.matcher(currString).matches()) {
                 return false;
             }
 
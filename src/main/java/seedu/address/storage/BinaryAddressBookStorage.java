@@ -0,0 +1,264 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}, followed by a string table and the persons.
+ * Each distinct string is stored once in the string table as a length-prefixed UTF-8 string, and persons refer to
+ * strings by their index in the table, so tags, venues and labels shared by many persons are only stored once.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of every binary data file ("FACB"). */
+    public static final int MAGIC_NUMBER = 0x46414342;
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY_DATA_FILE = "File is not a binary data file of a supported version.";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary data file is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int NO_STRING = -1;
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(fromBytes(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * As the data file is small and quick to read, the persons are passed on all at once after the whole address book
+     * has been read.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookInChunks(Consumer<List<Person>> loadedPersonsConsumer)
+            throws DataLoadingException {
+        requireNonNull(loadedPersonsConsumer);
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(filePath);
+        addressBook.ifPresent(loadedAddressBook -> loadedPersonsConsumer.accept(loadedAddressBook.getPersonList()));
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, toBytes(addressBook));
+    }
+
+    /**
+     * Returns {@code addressBook} encoded in the binary format.
+     */
+    static byte[] toBytes(ReadOnlyAddressBook addressBook) throws IOException {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        ByteArrayOutputStream personBytes = new ByteArrayOutputStream();
+        DataOutputStream persons = new DataOutputStream(personBytes);
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(persons, person, stringTable);
+        }
+
+        ByteArrayOutputStream fileBytes = new ByteArrayOutputStream();
+        DataOutputStream file = new DataOutputStream(fileBytes);
+        file.writeInt(MAGIC_NUMBER);
+        file.writeInt(FORMAT_VERSION);
+        file.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            file.writeInt(bytes.length);
+            file.write(bytes);
+        }
+        file.writeInt(addressBook.getPersonList().size());
+        personBytes.writeTo(file);
+        file.flush();
+        return fileBytes.toByteArray();
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> stringTable)
+            throws IOException {
+        out.writeInt(indexOf(person.getName().fullName, stringTable));
+        out.writeInt(indexOf(person.getPhone().value, stringTable));
+        out.writeInt(indexOf(person.getOtherPhones().numbers, stringTable));
+        out.writeInt(indexOf(person.getEmail().value, stringTable));
+        out.writeInt(indexOf(person.getAddress().value, stringTable));
+        out.writeBoolean(person.isFlagged());
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(indexOf(tag.tagName, stringTable));
+        }
+
+        out.writeInt(person.getMeetings().size());
+        for (Meeting meeting : person.getMeetings()) {
+            out.writeInt(indexOf(meeting.getMeetingName().meetingName, stringTable));
+            out.writeInt(indexOf(meeting.getVenue().value, stringTable));
+            out.writeLong(meeting.getDateTime().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(meeting.getDateTime().getNano());
+        }
+    }
+
+    /**
+     * Returns the index of {@code string} in {@code stringTable}, adding it to the table if it is not there yet.
+     */
+    private static int indexOf(String string, Map<String, Integer> stringTable) {
+        if (string == null) {
+            return NO_STRING;
+        }
+        return stringTable.computeIfAbsent(string, unused -> stringTable.size());
+    }
+
+    /**
+     * Returns the address book encoded in the binary format in {@code buffer}.
+     * Persons are checked against the same constraints as persons read from a JSON data file.
+     *
+     * @throws IOException if {@code buffer} does not hold a complete address book in the binary format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook fromBytes(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC_NUMBER || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException(MESSAGE_NOT_BINARY_DATA_FILE);
+            }
+
+            String[] stringTable = new String[readCount(buffer)];
+            for (int i = 0; i < stringTable.length; i++) {
+                byte[] bytes = new byte[readCount(buffer)];
+                buffer.get(bytes);
+                stringTable[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            int personCount = readCount(buffer);
+            for (int i = 0; i < personCount; i++) {
+                Person person = readPerson(buffer, stringTable).toModelType();
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    private static JsonAdaptedPerson readPerson(ByteBuffer buffer, String[] stringTable) throws IOException {
+        String name = readString(buffer, stringTable);
+        String phone = readString(buffer, stringTable);
+        String otherPhones = readString(buffer, stringTable);
+        String email = readString(buffer, stringTable);
+        String address = readString(buffer, stringTable);
+        boolean isFlagged = buffer.get() != 0;
+
+        int tagCount = readCount(buffer);
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readString(buffer, stringTable)));
+        }
+
+        int meetingCount = readCount(buffer);
+        List<JsonAdaptedMeeting> meetings = new ArrayList<>(meetingCount);
+        for (int i = 0; i < meetingCount; i++) {
+            String meetingName = readString(buffer, stringTable);
+            String venue = readString(buffer, stringTable);
+            LocalDateTime when = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            meetings.add(new JsonAdaptedMeeting(meetingName, venue, when));
+        }
+
+        return new JsonAdaptedPerson(name, phone, otherPhones, email, address, tags, meetings, isFlagged);
+    }
+
+    private static String readString(ByteBuffer buffer, String[] stringTable) {
+        int index = buffer.getInt();
+        return index == NO_STRING ? null : stringTable[index];
+    }
+
+    /**
+     * Reads a count or length, which cannot be negative or larger than the rest of {@code buffer}.
+     */
+    private static int readCount(ByteBuffer buffer) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+}
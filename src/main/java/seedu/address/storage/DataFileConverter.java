@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.commons.core.StorageSettings.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the JSON and the binary format.
+ * The conversion is lossless, so converting a data file to the other format and back gives an identical data file.
+ */
+public class DataFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: DataFileConverter FORMAT SOURCE_FILE TARGET_FILE\n"
+            + "Converts the data file SOURCE_FILE into FORMAT (json or binary), and saves it as TARGET_FILE.";
+    public static final String MESSAGE_SUCCESS = "Converted %1$s into %2$s";
+
+    /**
+     * Converts a data file as described in {@link #MESSAGE_USAGE}.
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            DataFileFormat targetFormat = DataFileFormat.valueOf(args[0].toUpperCase(Locale.ROOT));
+            DataFileFormat sourceFormat = targetFormat == DataFileFormat.JSON
+                    ? DataFileFormat.BINARY
+                    : DataFileFormat.JSON;
+            Path sourceFilePath = Paths.get(args[1]);
+            Path targetFilePath = Paths.get(args[2]);
+            convert(createAddressBookStorage(sourceFormat, sourceFilePath),
+                    createAddressBookStorage(targetFormat, targetFilePath));
+            System.out.println(String.format(MESSAGE_SUCCESS, sourceFilePath, targetFilePath));
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (DataLoadingException | IOException e) {
+            System.err.println("Conversion failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Saves the address book read from {@code source} to {@code target}.
+     *
+     * @throws DataLoadingException if the address book could not be read from {@code source}.
+     * @throws IOException if {@code source} has no data file, or if the address book could not be saved.
+     */
+    public static void convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            throw new NoSuchFileException(source.getAddressBookFilePath().toString());
+        }
+        target.saveAddressBook(addressBook.get());
+    }
+
+    /**
+     * Returns an {@code AddressBookStorage} for the data file at {@code filePath} in {@code format}.
+     */
+    private static AddressBookStorage createAddressBookStorage(DataFileFormat format, Path filePath) {
+        requireAllNonNull(format, filePath);
+        return format == DataFileFormat.BINARY
+                ? new BinaryAddressBookStorage(filePath)
+                : new JsonAddressBookStorage(filePath);
+    }
+
+}
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}.
+ * Only the number of removed persons is kept, as that is all that is needed to replay the change.
+ */
+class JsonAdaptedAddressBookChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String MESSAGE_OUT_OF_RANGE = "Change refers to persons that do not exist.";
+
+    private final Integer from;
+    private final Integer removed;
+    private final List<JsonAdaptedPerson> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("from") Integer from, @JsonProperty("removed") Integer removed,
+            @JsonProperty("added") List<JsonAdaptedPerson> added) {
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     */
+    public JsonAdaptedAddressBookChange(AddressBookChange source) {
+        from = source.getFrom();
+        removed = source.getRemoved().size();
+        added.addAll(source.getAdded().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Replays this change on {@code persons}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the change,
+     *     or if the change does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (from == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "from"));
+        }
+        if (removed == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "removed"));
+        }
+        if (from < 0 || removed < 0 || from + removed > persons.size()) {
+            throw new IllegalValueException(MESSAGE_OUT_OF_RANGE);
+        }
+
+        List<Person> addedPersons = new ArrayList<>();
+        for (JsonAdaptedPerson jsonAdaptedPerson : added) {
+            addedPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        persons.subList(from, from + removed).clear();
+        persons.addAll(from, addedPersons);
+    }
+
+}
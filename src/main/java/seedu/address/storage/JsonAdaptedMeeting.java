@@ -54,7 +54,7 @@ public class JsonAdaptedMeeting {
         if (!MeetingName.isValidMeetingName(this.meetingName)) {
             throw new IllegalValueException(MeetingName.MESSAGE_CONSTRAINTS);
         }
-        final MeetingName modelMeetingName = new MeetingName(this.meetingName);
+        final MeetingName modelMeetingName = MeetingName.of(this.meetingName);
 
         if (this.venue == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Venue.class.getSimpleName()));
@@ -62,15 +62,12 @@ public class JsonAdaptedMeeting {
         if (!Venue.isValidVenue(this.venue)) {
             throw new IllegalValueException(Venue.MESSAGE_CONSTRAINTS);
         }
-        final Venue modelVenue = new Venue(this.venue);
+        final Venue modelVenue = Venue.of(this.venue);
 
         if (this.when == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     When.class.getSimpleName()));
         }
-        if (!When.isValidWhen(this.when)) {
-            throw new IllegalValueException(When.MESSAGE_CONSTRAINTS);
-        }
         final When modelWhen = new When(this.when);
         return new Meeting(modelMeetingName, modelVenue, modelWhen);
     }
@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A journal of address book changes that have not yet been merged into the address book data file.
+ * The journal is stored as a text file with one JSON object per line. The first line identifies the version of
+ * the data file that the changes apply to, and every following line is one {@code AddressBookChange}.
+ */
+public class JsonAddressBookJournal {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Replaying the journal results in duplicate person(s).";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookJournal.class);
+
+    private final Path journalFilePath;
+    private int changeCount;
+
+    /**
+     * Creates a {@code JsonAddressBookJournal} stored in the file at {@code journalFilePath}.
+     */
+    public JsonAddressBookJournal(Path journalFilePath) {
+        requireNonNull(journalFilePath);
+        this.journalFilePath = journalFilePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the data file at {@code addressBookFilePath}.
+     */
+    public static Path getJournalFilePath(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Returns the number of changes in the journal.
+     */
+    public int getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Appends {@code changes} to the journal.
+     * If the journal is empty, it is started for the current version of the data file at {@code dataFilePath}.
+     *
+     * @throws IOException if there was an error writing to the journal.
+     */
+    public void append(List<AddressBookChange> changes, Path dataFilePath) throws IOException {
+        requireNonNull(changes);
+        requireNonNull(dataFilePath);
+
+        StringBuilder lines = new StringBuilder();
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            FileUtil.createParentDirsOfFile(journalFilePath);
+            lines.append(JsonUtil.toCompactJsonString(new Header(dataFilePath))).append('\n');
+            changeCount = 0;
+        }
+        for (AddressBookChange change : changes) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedAddressBookChange(change))).append('\n');
+        }
+
+        Files.write(journalFilePath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        changeCount += changes.size();
+    }
+
+    /**
+     * Deletes all changes in the journal, e.g. after they have been merged into the data file.
+     *
+     * @throws IOException if there was an error deleting the journal.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(journalFilePath);
+        changeCount = 0;
+    }
+
+    /**
+     * Returns {@code addressBook}, read from the data file at {@code dataFilePath}, with the changes in the journal
+     * applied to it. A journal that was started for a different version of the data file is discarded.
+     * An incomplete last line, left behind if the application stopped while appending to the journal, is ignored.
+     *
+     * @throws DataLoadingException if the journal could not be read or replayed.
+     */
+    public ReadOnlyAddressBook replay(ReadOnlyAddressBook addressBook, Path dataFilePath)
+            throws DataLoadingException {
+        requireNonNull(addressBook);
+        requireNonNull(dataFilePath);
+
+        changeCount = 0;
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return addressBook;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+            if (lines.isEmpty() || !readHeader(lines.get(0)).matches(dataFilePath)) {
+                logger.warning("Discarding journal " + journalFilePath + " as it does not match " + dataFilePath);
+                clear();
+                return addressBook;
+            }
+
+            List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+            for (int i = 1; i < lines.size(); i++) {
+                JsonAdaptedAddressBookChange change;
+                try {
+                    change = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedAddressBookChange.class);
+                } catch (IOException e) {
+                    if (i < lines.size() - 1) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring incomplete last change in journal " + journalFilePath);
+                    break;
+                }
+                change.applyTo(persons);
+                changeCount++;
+            }
+
+            AddressBook replayedAddressBook = new AddressBook();
+            replayedAddressBook.setPersons(persons);
+            logger.info("Replayed " + changeCount + " change(s) from journal " + journalFilePath);
+            return replayedAddressBook;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error replaying journal " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (DuplicatePersonException e) {
+            logger.warning("Error replaying journal " + journalFilePath + ": " + e);
+            throw new DataLoadingException(new IllegalValueException(MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    private static Header readHeader(String line) {
+        try {
+            return JsonUtil.fromJsonString(line, Header.class);
+        } catch (IOException e) {
+            return new Header(-1L, -1L);
+        }
+    }
+
+    /**
+     * Identifies the version of the data file that the changes in a journal apply to.
+     */
+    private static class Header {
+        private final long dataFileSize;
+        private final long dataFileLastModified;
+
+        @JsonCreator
+        private Header(@JsonProperty("dataFileSize") long dataFileSize,
+                @JsonProperty("dataFileLastModified") long dataFileLastModified) {
+            this.dataFileSize = dataFileSize;
+            this.dataFileLastModified = dataFileLastModified;
+        }
+
+        private Header(Path dataFilePath) throws IOException {
+            this(Files.size(dataFilePath), Files.getLastModifiedTime(dataFilePath).toMillis());
+        }
+
+        private boolean matches(Path dataFilePath) throws IOException {
+            return FileUtil.isFileExists(dataFilePath)
+                    && dataFileSize == Files.size(dataFilePath)
+                    && dataFileLastModified == Files.getLastModifiedTime(dataFilePath).toMillis();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Serializes address books into the same bytes as {@link JsonUtil#toJsonString} does for a
+ * {@link JsonSerializableAddressBook}, encoded in UTF-8.
+ * The serialized form of every person is remembered, so serializing an address book again only serializes the
+ * persons that changed since. As persons are immutable, they are looked up by identity, and a person that is replaced
+ * in the address book is serialized again.
+ */
+class JsonAddressBookSerializer {
+
+    private static final String LINE_SEPARATOR = DefaultIndenter.SYS_LF;
+    private static final byte[] PERSONS_START = ("{" + LINE_SEPARATOR + "  \"persons\" : [ ")
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PERSON_SEPARATOR = ", ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PERSONS_END = (" ]" + LINE_SEPARATOR + "}").getBytes(StandardCharsets.UTF_8);
+    private static final String PERSON_INDENT = "  ";
+
+    private Map<Person, byte[]> serializedPersons = new IdentityHashMap<>();
+    private int lastSerializedCount;
+
+    /**
+     * Returns {@code addressBook} serialized as pretty-printed JSON in UTF-8.
+     */
+    public synchronized byte[] toJsonBytes(ReadOnlyAddressBook addressBook) throws JsonProcessingException {
+        requireNonNull(addressBook);
+        List<Person> persons = addressBook.getPersonList();
+        Map<Person, byte[]> currentSerializedPersons = new IdentityHashMap<>(persons.size());
+        lastSerializedCount = 0;
+        if (persons.isEmpty()) {
+            serializedPersons = currentSerializedPersons;
+            return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook))
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+
+        byte[][] personsJson = new byte[persons.size()][];
+        int length = PERSONS_START.length + PERSONS_END.length + (persons.size() - 1) * PERSON_SEPARATOR.length;
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            byte[] serializedPerson = serializedPersons.get(person);
+            if (serializedPerson == null) {
+                serializedPerson = serialize(person);
+                lastSerializedCount++;
+            }
+            currentSerializedPersons.put(person, serializedPerson);
+            personsJson[i] = serializedPerson;
+            length += serializedPerson.length;
+        }
+
+        byte[] json = new byte[length];
+        int position = append(json, 0, PERSONS_START);
+        for (int i = 0; i < personsJson.length; i++) {
+            if (i > 0) {
+                position = append(json, position, PERSON_SEPARATOR);
+            }
+            position = append(json, position, personsJson[i]);
+        }
+        append(json, position, PERSONS_END);
+
+        // forget persons that are no longer in the address book
+        serializedPersons = currentSerializedPersons;
+        return json;
+    }
+
+    /**
+     * Returns the number of persons that were not remembered, and had to be serialized, in the last call to
+     * {@link #toJsonBytes(ReadOnlyAddressBook)}.
+     */
+    synchronized int getLastSerializedCount() {
+        return lastSerializedCount;
+    }
+
+    /**
+     * Copies {@code bytes} into {@code destination} at {@code position}, and returns the position after them.
+     */
+    private static int append(byte[] destination, int position, byte[] bytes) {
+        System.arraycopy(bytes, 0, destination, position, bytes.length);
+        return position + bytes.length;
+    }
+
+    /**
+     * Returns {@code person} serialized as it appears in the list of persons, i.e. indented one level further than
+     * when it is serialized on its own. JSON strings cannot contain raw line breaks, so every line break is part of
+     * the pretty printing.
+     */
+    private static byte[] serialize(Person person) throws JsonProcessingException {
+        String json = JsonUtil.toJsonString(new JsonAdaptedPerson(person));
+        return json.replace(LINE_SEPARATOR, LINE_SEPARATOR + PERSON_INDENT).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,12 +1,17 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -21,6 +26,8 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -46,15 +53,51 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        ParallelPersonConverter converter = new ParallelPersonConverter();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            converter.add(jsonAdaptedPerson);
+        }
+        return converter.toAddressBook();
+    }
+
+    /**
+     * Reads an address book from {@code parser} without building a {@code JsonSerializableAddressBook} first.
+     * Persons are converted into the model's {@code Person} in parallel while the rest are read, so only a few chunks
+     * of {@code JsonAdaptedPerson}s are held in memory at a time.
+     *
+     * @throws IOException if the JSON could not be parsed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        return readAddressBook(parser, unused -> {});
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(JsonParser)}, but also passes the converted persons to
+     * {@code convertedPersonsConsumer} in chunks, in order, as soon as they are available.
+     */
+    public static AddressBook readAddressBook(JsonParser parser, Consumer<List<Person>> convertedPersonsConsumer)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        ParallelPersonConverter converter = new ParallelPersonConverter(convertedPersonsConsumer);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of persons");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                converter.add(parser.readValueAs(JsonAdaptedPerson.class));
             }
-            addressBook.addPerson(person);
         }
-        return addressBook;
+        return converter.toAddressBook();
     }
 
 }
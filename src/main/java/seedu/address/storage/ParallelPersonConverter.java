@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into an {@code AddressBook}, validating and converting them in chunks on a
+ * {@code ForkJoinPool} while more persons are still being read.
+ * The result, including which error is reported, is the same as converting the persons one at a time and adding
+ * them to the address book in order: the first person that is invalid or a duplicate of an earlier person fails the
+ * conversion.
+ * Converted persons can also be passed on in chunks, in order, as soon as they are available.
+ */
+class ParallelPersonConverter {
+
+    /** Number of persons converted by a single task. */
+    static final int CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final Consumer<List<Person>> convertedPersonsConsumer;
+    private final int maxPendingChunks;
+    private final Deque<ChunkConversion> pendingConversions = new ArrayDeque<>();
+    private List<JsonAdaptedPerson> currentChunk = new ArrayList<>(CHUNK_SIZE);
+    private final List<Person> persons = new ArrayList<>();
+    private IllegalValueException failure;
+
+    /**
+     * Creates a {@code ParallelPersonConverter} that converts persons on the common {@code ForkJoinPool}.
+     */
+    ParallelPersonConverter() {
+        this(unused -> {});
+    }
+
+    /**
+     * Creates a {@code ParallelPersonConverter} that converts persons on the common {@code ForkJoinPool}, and passes
+     * them to {@code convertedPersonsConsumer} in chunks, in the order they were added.
+     */
+    ParallelPersonConverter(Consumer<List<Person>> convertedPersonsConsumer) {
+        this(ForkJoinPool.commonPool(), convertedPersonsConsumer);
+    }
+
+    /**
+     * Creates a {@code ParallelPersonConverter} that converts persons on {@code pool}, and passes them to
+     * {@code convertedPersonsConsumer} in chunks, in the order they were added. No more persons are passed on after
+     * a person fails to convert.
+     */
+    ParallelPersonConverter(ForkJoinPool pool, Consumer<List<Person>> convertedPersonsConsumer) {
+        requireNonNull(pool);
+        requireNonNull(convertedPersonsConsumer);
+        this.pool = pool;
+        this.convertedPersonsConsumer = convertedPersonsConsumer;
+        // bounds the number of adapted persons waiting to be converted when reading outpaces conversion
+        this.maxPendingChunks = 2 * pool.getParallelism() + 1;
+    }
+
+    /**
+     * Queues {@code jsonAdaptedPerson} to be converted after the persons added before it.
+     */
+    void add(JsonAdaptedPerson jsonAdaptedPerson) {
+        requireNonNull(jsonAdaptedPerson);
+        currentChunk.add(jsonAdaptedPerson);
+        if (currentChunk.size() == CHUNK_SIZE) {
+            submitCurrentChunk();
+        }
+    }
+
+    /**
+     * Returns an address book containing the converted persons, in the order they were added.
+     *
+     * @throws IllegalValueException if any person is invalid or a duplicate of an earlier person.
+     */
+    AddressBook toAddressBook() throws IllegalValueException {
+        submitCurrentChunk();
+        while (!pendingConversions.isEmpty()) {
+            joinNextConversion();
+        }
+        if (failure != null) {
+            // a duplicate among the persons before the invalid one would have been found first
+            toAddressBook(persons);
+            throw failure;
+        }
+        return toAddressBook(persons);
+    }
+
+    private void submitCurrentChunk() {
+        if (currentChunk.isEmpty()) {
+            return;
+        }
+        ChunkConversion conversion = new ChunkConversion(currentChunk);
+        pool.execute(conversion);
+        pendingConversions.addLast(conversion);
+        currentChunk = new ArrayList<>(CHUNK_SIZE);
+        while (!pendingConversions.isEmpty()
+                && (pendingConversions.size() > maxPendingChunks || pendingConversions.peekFirst().isDone())) {
+            joinNextConversion();
+        }
+    }
+
+    /**
+     * Waits for the earliest pending conversion, and collects its persons unless an earlier person failed to convert.
+     */
+    private void joinNextConversion() {
+        ChunkConversion.Result result = pendingConversions.removeFirst().join();
+        if (failure != null) {
+            return;
+        }
+        persons.addAll(result.persons);
+        failure = result.failure;
+        if (!result.persons.isEmpty()) {
+            convertedPersonsConsumer.accept(result.persons);
+        }
+    }
+
+    /**
+     * Returns an address book containing {@code persons}, which are checked for duplicates in a single pass.
+     */
+    private static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Converts a chunk of persons, stopping at the first person that fails to convert.
+     */
+    private static class ChunkConversion extends RecursiveTask<ChunkConversion.Result> {
+        private List<JsonAdaptedPerson> jsonAdaptedPersons;
+
+        private ChunkConversion(List<JsonAdaptedPerson> jsonAdaptedPersons) {
+            this.jsonAdaptedPersons = jsonAdaptedPersons;
+        }
+
+        @Override
+        protected Result compute() {
+            List<Person> persons = new ArrayList<>(jsonAdaptedPersons.size());
+            IllegalValueException failure = null;
+            try {
+                for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+                    persons.add(jsonAdaptedPerson.toModelType());
+                }
+            } catch (IllegalValueException ive) {
+                failure = ive;
+            }
+            // the adapted persons are no longer needed once converted
+            jsonAdaptedPersons = null;
+            return new Result(persons, failure);
+        }
+
+        /**
+         * The persons converted before the first failure, if any.
+         */
+        private static class Result {
+            private final List<Person> persons;
+            private final IllegalValueException failure;
+
+            private Result(List<Person> persons, IllegalValueException failure) {
+                this.persons = persons;
+                this.failure = failure;
+            }
+        }
+    }
+}
@@ -2,9 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -29,4 +32,33 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook}, which differs from the last saved address book by {@code changes}.
+     * @param addressBook cannot be null.
+     * @param changes the changes made since the last save, in the order they were made. Cannot be null.
+     * @throws IOException if there was any problem writing to the file. Failures of saves done in the background
+     *     are reported to the save failure handler instead.
+     */
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) throws IOException;
+
+    /**
+     * Ensures that the data file is up to date with the given {@link ReadOnlyAddressBook},
+     * e.g. before the application exits. Waits for any saves in the background to complete.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Sets the handler to be notified, on the background thread, whenever saving the address book in the
+     * background fails.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
+    /**
+     * Sets the handler to be notified, on the background thread, whenever saving the address book in the
+     * background succeeds after an earlier save in the background failed.
+     */
+    void setSaveRecoveryHandler(Runnable handler);
+
 }
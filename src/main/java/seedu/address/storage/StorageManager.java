@@ -2,30 +2,82 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * If a journal is given, changes to the address book are appended to the journal, and only merged into the
+ * data file once the journal grows large or when the address book is flushed.
+ * If saving in the background is enabled, changes are written by a single background thread, which combines all
+ * changes made while it was busy into a single write.
  */
 public class StorageManager implements Storage {
 
+    /** Number of journaled changes after which the journal is merged into the data file. */
+    public static final int JOURNAL_MERGE_THRESHOLD = 200;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private JsonAddressBookJournal journal;
+    private boolean isJournalInSync;
+    private boolean isDataFileOutdated;
+
+    private final ExecutorService backgroundWriter;
+    private ReadOnlyAddressBook pendingAddressBook;
+    private final List<AddressBookChange> pendingChanges = new ArrayList<>();
+    private Consumer<IOException> saveFailureHandler = unused -> {};
+    private Runnable saveRecoveryHandler = () -> {};
+    // only used by the background writer
+    private boolean hasBackgroundSaveFailed;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage}
+     * and {@code JsonAddressBookJournal}. A null {@code journal} disables journaling.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            JsonAddressBookJournal journal) {
+        this(addressBookStorage, userPrefsStorage, journal, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage}
+     * and {@code JsonAddressBookJournal}, which saves address book changes in the background
+     * if {@code isBackgroundSaveEnabled} is true. A null {@code journal} disables journaling.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            JsonAddressBookJournal journal, boolean isBackgroundSaveEnabled) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.journal = journal;
+        this.backgroundWriter = isBackgroundSaveEnabled ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook background writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -55,7 +107,28 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        return readAddressBookInChunks(unused -> {});
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the persons in the data file are passed on. The changes in the journal are only applied to the address
+     * book returned.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookInChunks(Consumer<List<Person>> loadedPersonsConsumer)
+            throws DataLoadingException {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        isJournalInSync = false;
+        logger.fine("Attempting to read data from file: " + filePath);
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBookInChunks(loadedPersonsConsumer);
+        if (journal == null || !addressBook.isPresent()) {
+            return addressBook;
+        }
+
+        ReadOnlyAddressBook replayedAddressBook = journal.replay(addressBook.get(), filePath);
+        isJournalInSync = true;
+        return Optional.of(replayedAddressBook);
     }
 
     @Override
@@ -66,7 +139,14 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        isJournalInSync = false;
+        isDataFileOutdated = true;
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        isDataFileOutdated = false;
+        if (journal != null) {
+            journal.clear();
+            isJournalInSync = true;
+        }
     }
 
     @Override
@@ -75,4 +155,113 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        if (backgroundWriter == null) {
+            writeAddressBookChanges(addressBook, changes);
+            return;
+        }
+
+        synchronized (this) {
+            if (pendingAddressBook == null) {
+                backgroundWriter.execute(this::writePendingChanges);
+            }
+            // the address book is read by the background writer, so it must not change
+            pendingAddressBook = AddressBookSnapshot.copyOf(addressBook);
+            pendingChanges.addAll(changes);
+        }
+    }
+
+    @Override
+    public void flushAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (backgroundWriter != null) {
+            try {
+                backgroundWriter.submit(() -> {}).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for background save to complete", e);
+            } catch (ExecutionException e) {
+                throw new AssertionError("Waiting for background save should not fail", e);
+            }
+        }
+
+        if (isDataFileOutdated) {
+            saveAddressBook(addressBook);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void setSaveRecoveryHandler(Runnable handler) {
+        saveRecoveryHandler = handler;
+    }
+
+    /**
+     * Writes the address book and changes that were queued since the last background write.
+     * Runs on the background writer thread.
+     */
+    private void writePendingChanges() {
+        ReadOnlyAddressBook addressBook;
+        List<AddressBookChange> changes;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            changes = new ArrayList<>(pendingChanges);
+            pendingAddressBook = null;
+            pendingChanges.clear();
+        }
+
+        IOException failure;
+        try {
+            writeAddressBookChanges(addressBook, changes);
+            if (hasBackgroundSaveFailed) {
+                hasBackgroundSaveFailed = false;
+                logger.info("Saved address book in the background after an earlier failure");
+                saveRecoveryHandler.run();
+            }
+            return;
+        } catch (IOException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            // otherwise swallowed by the executor, losing the save without telling the user
+            isJournalInSync = false;
+            failure = new IOException("Unexpected error while saving: " + e, e);
+        }
+
+        logger.warning("Failed to save address book in the background: " + failure);
+        hasBackgroundSaveFailed = true;
+        saveFailureHandler.accept(failure);
+    }
+
+    private void writeAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        int addedPersonCount = changes.stream().mapToInt(change -> change.getAdded().size()).sum();
+        if (journal == null || !isJournalInSync || addedPersonCount >= addressBook.getPersonList().size()) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        logger.fine("Attempting to append " + changes.size() + " change(s) to journal: "
+                + journal.getJournalFilePath());
+        isDataFileOutdated = true;
+        try {
+            journal.append(changes, addressBookStorage.getAddressBookFilePath());
+        } catch (IOException e) {
+            isJournalInSync = false;
+            throw e;
+        }
+
+        if (journal.getChangeCount() >= JOURNAL_MERGE_THRESHOLD) {
+            saveAddressBook(addressBook);
+        }
+    }
+
 }
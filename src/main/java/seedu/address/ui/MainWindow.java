@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -33,6 +34,7 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -116,13 +118,29 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> statusBarFooter.showSaveFailure(message)));
+        logic.setSaveRecoveryHandler(() -> Platform.runLater(statusBarFooter::clearSaveFailure));
+        logic.setLoadProgressHandler(() -> Platform.runLater(this::showLoadProgress));
+        showLoadProgress();
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Adds the persons loaded in the background so far to the person list, and shows how many have been loaded
+     * until the whole address book has been loaded.
+     */
+    private void showLoadProgress() {
+        if (logic.addLoadedPersons()) {
+            statusBarFooter.clearLoadProgress();
+        } else {
+            statusBarFooter.showLoadProgress(logic.getAddressBook().getPersonList().size());
+        }
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -1,9 +1,11 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.stream.IntStream;
+import java.util.List;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.layout.FlowPane;
@@ -12,7 +14,9 @@ import javafx.scene.layout.Region;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Circle;
 import seedu.address.MainApp;
+import seedu.address.model.meeting.Meeting;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * A UI component that displays information of a {@code Person}.
@@ -29,6 +33,12 @@ public class PersonCard extends UiPart<Region> {
     private static final String FLAG_IMAGE_PATH = "/images/flag.png";
     private static final String FLAGGED_STYLE_CLASS = "flagged";
 
+    private static ImagePattern flagImagePattern;
+
+    private final List<Label> spareLabels = new ArrayList<>();
+    private Person person;
+    private int displayedIndex;
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -36,9 +46,6 @@ public class PersonCard extends UiPart<Region> {
      *
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
-
-    public final Person person;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -65,7 +72,19 @@ public class PersonCard extends UiPart<Region> {
      */
     public PersonCard(Person person, int displayedIndex) {
         super(FXML);
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Displays {@code person} with {@code displayedIndex} in this card instead of the person displayed so far.
+     * The labels of the card are reused, so that the card can be recycled as the list is scrolled.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
 
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
@@ -80,6 +99,10 @@ public class PersonCard extends UiPart<Region> {
         toggleFlagUI(person);
     }
 
+    public Person getPerson() {
+        return person;
+    }
+
     public HBox getCardPane() {
         return cardPane;
     }
@@ -121,28 +144,51 @@ public class PersonCard extends UiPart<Region> {
     }
 
     /**
-     * Populates the tags panel in the UI with the person's tags.
+     * Populates the tags panel in the UI with the person's tags, replacing the tags shown so far.
      */
     public void setTagsUI() {
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        List<String> tagNames = new ArrayList<>(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            tagNames.add(tag.tagName);
+        }
+        tagNames.sort(Comparator.naturalOrder());
+        setLabels(tags, tagNames);
     }
 
     /**
-     * Populates the meetings panel in the UI with the person's meetings.
+     * Populates the meetings panel in the UI with the person's meetings, replacing the meetings shown so far.
      * Each meeting is prefixed with its one-based index number.
      */
     public void setMeetingsUI() {
-        IntStream.range(0, person.getMeetingCount())
-                .forEach(i -> {
-                    int oneBasedMeetingIndex = i + 1;
-                    String meetingText = person.getMeetings().get(i).toString();
-                    Label meetingLabel = new Label(String.format("%d. %s",
-                            oneBasedMeetingIndex, meetingText));
+        List<Meeting> personMeetings = person.getMeetings();
+        List<String> meetingTexts = new ArrayList<>(personMeetings.size());
+        for (int i = 0; i < personMeetings.size(); i++) {
+            int oneBasedMeetingIndex = i + 1;
+            meetingTexts.add(String.format("%d. %s", oneBasedMeetingIndex, personMeetings.get(i)));
+        }
+        setLabels(meetings, meetingTexts);
+    }
 
-                    meetings.getChildren().add(meetingLabel);
-                });
+    /**
+     * Makes {@code pane} show one label for each of {@code texts}, reusing the labels already in {@code pane} and
+     * those removed from the panes of this card before.
+     */
+    private void setLabels(FlowPane pane, List<String> texts) {
+        List<Node> children = pane.getChildren();
+        while (children.size() > texts.size()) {
+            spareLabels.add((Label) children.remove(children.size() - 1));
+        }
+        for (int i = 0; i < texts.size(); i++) {
+            if (i < children.size()) {
+                ((Label) children.get(i)).setText(texts.get(i));
+            } else if (!spareLabels.isEmpty()) {
+                Label label = spareLabels.remove(spareLabels.size() - 1);
+                label.setText(texts.get(i));
+                children.add(label);
+            } else {
+                children.add(new Label(texts.get(i)));
+            }
+        }
     }
 
     /**
@@ -152,15 +198,26 @@ public class PersonCard extends UiPart<Region> {
      */
     public void toggleFlagUI(Person person) {
         if (person.isFlagged()) {
-            Image image = new Image(MainApp.class.getResourceAsStream(FLAG_IMAGE_PATH));
-            flag.setFill(new ImagePattern(image));
+            flag.setFill(getFlagImagePattern());
             flag.setVisible(true);
 
-            cardPane.getStyleClass().add(FLAGGED_STYLE_CLASS);
+            if (!cardPane.getStyleClass().contains(FLAGGED_STYLE_CLASS)) {
+                cardPane.getStyleClass().add(FLAGGED_STYLE_CLASS);
+            }
         } else {
             flag.setVisible(false);
             cardPane.getStyleClass().removeAll(FLAGGED_STYLE_CLASS);
         }
     }
 
+    /**
+     * Returns the fill of the flag icon, which is shared by all cards so that the image is only decoded once.
+     */
+    private static ImagePattern getFlagImagePattern() {
+        if (flagImagePattern == null) {
+            flagImagePattern = new ImagePattern(new Image(MainApp.class.getResourceAsStream(FLAG_IMAGE_PATH)));
+        }
+        return flagImagePattern;
+    }
+
 }
@@ -31,8 +31,11 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell creates its card once, and rebinds it to whichever person the cell shows as the list is scrolled.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -40,9 +43,15 @@ public class PersonListPanel extends UiPart<Region> {
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
+                return;
+            }
+
+            if (personCard == null) {
+                personCard = new PersonCard(person, getIndex() + 1);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                personCard.setPerson(person, getIndex() + 1);
             }
+            setGraphic(personCard.getRoot());
         }
     }
 
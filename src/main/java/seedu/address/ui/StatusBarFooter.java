@@ -13,10 +13,17 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String LOAD_PROGRESS_FORMAT = "Loading... %1$d persons loaded";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label saveStatus;
+
+    @FXML
+    private Label loadStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +32,32 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that saving the data failed with the given {@code message}.
+     */
+    public void showSaveFailure(String message) {
+        saveStatus.setText(message);
+    }
+
+    /**
+     * Clears any save failure shown.
+     */
+    public void clearSaveFailure() {
+        saveStatus.setText("");
+    }
+
+    /**
+     * Shows that the address book is still being loaded, with {@code loadedCount} persons loaded so far.
+     */
+    public void showLoadProgress(int loadedCount) {
+        loadStatus.setText(String.format(LOAD_PROGRESS_FORMAT, loadedCount));
+    }
+
+    /**
+     * Clears the loading progress shown.
+     */
+    public void clearLoadProgress() {
+        loadStatus.setText("");
+    }
+
 }
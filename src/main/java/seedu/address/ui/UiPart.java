@@ -7,6 +7,7 @@ import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
+import seedu.address.commons.core.StartupProfiler;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
@@ -68,11 +69,14 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
-        } catch (IOException e) {
-            throw new AssertionError(e);
-        }
+        String fxmlFileName = location.getPath().substring(location.getPath().lastIndexOf('/') + 1);
+        StartupProfiler.getInstance().measure("FXML " + fxmlFileName, () -> {
+            try {
+                fxmlLoader.load();
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        });
     }
 
     /**
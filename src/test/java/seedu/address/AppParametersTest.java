@@ -5,38 +5,34 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.application.Application;
-
 public class AppParametersTest {
 
-    private final ParametersStub parametersStub = new ParametersStub();
+    private final Map<String, String> namedParameters = new HashMap<>();
     private final AppParameters expected = new AppParameters();
 
     @Test
     public void parse_validConfigPath_success() {
-        parametersStub.namedParameters.put("config", "config.json");
+        namedParameters.put("config", "config.json");
         expected.setConfigPath(Paths.get("config.json"));
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertEquals(expected, AppParameters.parse(namedParameters));
     }
 
     @Test
     public void parse_nullConfigPath_success() {
-        parametersStub.namedParameters.put("config", null);
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        namedParameters.put("config", null);
+        assertEquals(expected, AppParameters.parse(namedParameters));
     }
 
     @Test
     public void parse_invalidConfigPath_success() {
-        parametersStub.namedParameters.put("config", "a\0");
+        namedParameters.put("config", "a\0");
         expected.setConfigPath(null);
-        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertEquals(expected, AppParameters.parse(namedParameters));
     }
 
     @Test
@@ -67,23 +63,4 @@ public class AppParametersTest {
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
     }
-
-    private static class ParametersStub extends Application.Parameters {
-        private Map<String, String> namedParameters = new HashMap<>();
-
-        @Override
-        public List<String> getRaw() {
-            throw new AssertionError("should not be called");
-        }
-
-        @Override
-        public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
-        }
-
-        @Override
-        public Map<String, String> getNamed() {
-            return Collections.unmodifiableMap(namedParameters);
-        }
-    }
 }
@@ -0,0 +1,80 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessMainTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void run_validCommands_resultsPrinted() throws Exception {
+        String script = "# comment\n\n"
+                + "add n=Amy Bee mn=11111111 e=amy@example.com a=Block 312, Amy Street 1\n"
+                + "list\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, HeadlessMain.run(logic, new BufferedReader(new StringReader(script)), printStream(out)));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        String[] lines = out.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertEquals(2, lines.length);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, lines[1]);
+    }
+
+    @Test
+    public void run_failingCommand_errorPrintedAndExecutionContinues() throws Exception {
+        String script = "unknowncommand\nlist\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(1, HeadlessMain.run(logic, new BufferedReader(new StringReader(script)), printStream(out)));
+        assertEquals(HeadlessMain.ERROR_PREFIX + MESSAGE_UNKNOWN_COMMAND + System.lineSeparator()
+                + ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_exitCommand_remainingCommandsSkipped() throws Exception {
+        String script = "exit\nunknowncommand\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, HeadlessMain.run(logic, new BufferedReader(new StringReader(script)), printStream(out)));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    private static PrintStream printStream(ByteArrayOutputStream out) {
+        return new PrintStream(out, true, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.application.Application;
+
+public class MainAppTest {
+
+    private final ParametersStub parametersStub = new ParametersStub();
+
+    @Test
+    public void parseParameters_validConfigPath_success() {
+        parametersStub.namedParameters.put("config", "config.json");
+        AppParameters expected = new AppParameters();
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, MainApp.parseParameters(parametersStub));
+    }
+
+    private static class ParametersStub extends Application.Parameters {
+        private Map<String, String> namedParameters = new HashMap<>();
+
+        @Override
+        public List<String> getRaw() {
+            throw new AssertionError("should not be called");
+        }
+
+        @Override
+        public List<String> getUnnamed() {
+            throw new AssertionError("should not be called");
+        }
+
+        @Override
+        public Map<String, String> getNamed() {
+            return Collections.unmodifiableMap(namedParameters);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class StartupProfilerTest {
+
+    private final StartupProfiler profiler = new StartupProfiler();
+
+    @Test
+    public void measure_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> profiler.measure(null, () -> 1));
+        assertThrows(NullPointerException.class, () -> profiler.measure("phase", (Runnable) null));
+    }
+
+    @Test
+    public void measure_phases_recordedInOrder() {
+        assertEquals("result", profiler.measure("first", () -> "result"));
+        profiler.measure("second", () -> {
+            // allocates enough to be measured however the JVM allocates memory
+            assertEquals(1 << 20, new byte[1 << 20].length);
+        });
+
+        List<StartupProfiler.Phase> phases = profiler.getPhases();
+        assertEquals(2, phases.size());
+        assertEquals("first", phases.get(0).getName());
+        assertEquals("second", phases.get(1).getName());
+        assertTrue(phases.get(1).getStartMillis() >= phases.get(0).getStartMillis());
+        assertTrue(phases.get(1).getDurationMillis() >= 0);
+        long allocatedBytes = phases.get(1).getAllocatedBytes();
+        assertTrue(allocatedBytes == StartupProfiler.UNKNOWN_ALLOCATED_BYTES || allocatedBytes >= 1 << 20);
+    }
+
+    @Test
+    public void measure_phaseThrows_phaseRecorded() {
+        assertThrows(IllegalStateException.class, () -> profiler.measure("failing", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals("failing", profiler.getPhases().get(0).getName());
+    }
+
+    @Test
+    public void measure_afterFinish_phaseRunButNotRecorded() {
+        profiler.measure("before", () -> {});
+        profiler.finish();
+
+        assertEquals("result", profiler.measure("after", () -> "result"));
+        assertEquals(1, profiler.getPhases().size());
+        assertEquals("before", profiler.getPhases().get(0).getName());
+    }
+
+    @Test
+    public void toJsonString_phasesRecorded_reportsPhases() throws Exception {
+        profiler.measure("initConfig", () -> {});
+        profiler.measure("initPrefs", () -> {});
+
+        JsonNode report = new ObjectMapper().readTree(profiler.toJsonString());
+        assertTrue(report.get("jvmStartupMillis").isIntegralNumber());
+        JsonNode phases = report.get("phases");
+        assertEquals(2, phases.size());
+        assertEquals("initConfig", phases.get(0).get("name").asText());
+        assertEquals("initPrefs", phases.get(1).get("name").asText());
+        assertTrue(phases.get(1).has("startMillis"));
+        assertTrue(phases.get(1).has("durationMillis"));
+        assertTrue(phases.get(1).has("allocatedBytes"));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.StorageSettings.DataFileFormat;
+
+public class StorageSettingsTest {
+    @Test
+    public void equals() {
+        StorageSettings storageSettings = new StorageSettings();
+
+        // same values -> returns true
+        assertTrue(storageSettings.equals(new StorageSettings(storageSettings.isJournalEnabled(),
+                storageSettings.isBackgroundSaveEnabled(), storageSettings.isBackgroundLoadEnabled(),
+                storageSettings.getDataFileFormat())));
+
+        // same object -> returns true
+        assertTrue(storageSettings.equals(storageSettings));
+
+        // null -> returns false
+        assertFalse(storageSettings.equals(null));
+
+        // different values -> returns false
+        assertFalse(storageSettings.equals(new StorageSettings(!storageSettings.isJournalEnabled(),
+                storageSettings.isBackgroundSaveEnabled(), storageSettings.isBackgroundLoadEnabled(),
+                storageSettings.getDataFileFormat())));
+        assertFalse(storageSettings.equals(new StorageSettings(storageSettings.isJournalEnabled(),
+                !storageSettings.isBackgroundSaveEnabled(), storageSettings.isBackgroundLoadEnabled(),
+                storageSettings.getDataFileFormat())));
+        assertFalse(storageSettings.equals(new StorageSettings(storageSettings.isJournalEnabled(),
+                storageSettings.isBackgroundSaveEnabled(), !storageSettings.isBackgroundLoadEnabled(),
+                storageSettings.getDataFileFormat())));
+        assertFalse(storageSettings.equals(new StorageSettings(storageSettings.isJournalEnabled(),
+                storageSettings.isBackgroundSaveEnabled(), storageSettings.isBackgroundLoadEnabled(),
+                DataFileFormat.BINARY)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        StorageSettings storageSettings = new StorageSettings();
+        String expected = StorageSettings.class.getCanonicalName() + "{journalEnabled="
+                + storageSettings.isJournalEnabled() + ", backgroundSaveEnabled="
+                + storageSettings.isBackgroundSaveEnabled() + ", backgroundLoadEnabled="
+                + storageSettings.isBackgroundLoadEnabled() + ", dataFileFormat="
+                + storageSettings.getDataFileFormat() + "}";
+        assertEquals(expected, storageSettings.toString());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -39,6 +40,17 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void toCompactJsonString_validObject_singleLineRoundTrip() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        String json = JsonUtil.toCompactJsonString(serializableTestClass);
+        assertFalse(json.contains("\n"));
+        assertEquals(JsonUtil.toJsonString(serializableTestClass),
+                JsonUtil.toJsonString(JsonUtil.fromJsonString(json, SerializableTestClass.class)));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,78 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(Arrays.asList("abc", null)));
+    }
+
+    @Test
+    public void constructor_emptyKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> new KeywordMatcher(List.of("  ")));
+    }
+
+    @Test
+    public void constructor_multipleWordKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> new KeywordMatcher(List.of("aaa BBB")));
+    }
+
+    @Test
+    public void matches_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(List.of("abc")).matches(null));
+    }
+
+    /*
+     * Mirrors the valid inputs used for StringUtil#containsWordIgnoreCase, as both must agree.
+     */
+    @Test
+    public void matches_validInputs_correctResult() {
+
+        // Empty sentence
+        assertFalse(matches("", "abc")); // Boundary case
+        assertFalse(matches("    ", "123"));
+
+        // Matches a partial word only
+        assertFalse(matches("aaa bbb ccc", "bb")); // Sentence word bigger than query word
+        assertFalse(matches("aaa bbb ccc", "bbbb")); // Query word bigger than sentence word
+
+        // Matches word in the sentence, different upper/lower case letters
+        assertTrue(matches("aaa bBb ccc", "Bbb")); // First word (boundary case)
+        assertTrue(matches("aaa bBb ccc@1", "CCc@1")); // Last word (boundary case)
+        assertTrue(matches("  AAA   bBb   ccc  ", "aaa")); // Sentence has extra spaces
+        assertTrue(matches("Aaa", "aaa")); // Only one word in sentence (boundary case)
+        assertTrue(matches("aaa bbb ccc", "  ccc  ")); // Leading/trailing spaces
+        assertTrue(matches("aaa\tbbb\nccc", "bbb")); // Other whitespace separates words
+
+        // Matches multiple words in sentence
+        assertTrue(matches("AAA bBb ccc  bbb", "bbB"));
+    }
+
+    @Test
+    public void matches_multipleKeywords_matchesAnyKeyword() {
+        KeywordMatcher keywordMatcher = new KeywordMatcher(Arrays.asList("Alice", "bob"));
+        assertTrue(keywordMatcher.matches("Alice Carol"));
+        assertTrue(keywordMatcher.matches("Carol BOB"));
+        assertFalse(keywordMatcher.matches("Carol Dave"));
+
+        // No keywords
+        assertFalse(new KeywordMatcher(Collections.emptyList()).matches("Alice"));
+    }
+
+    private static boolean matches(String sentence, String keyword) {
+        return new KeywordMatcher(List.of(keyword)).matches(sentence);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.list;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIFTH_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FOURTH_PERSON;
@@ -15,6 +16,8 @@ import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -97,6 +100,27 @@ public class PersonListTest {
         assertEquals(sortedPersonList.get(INDEX_SIXTH_PERSON.getZeroBased()), sixthPerson);
     }
 
+    @Test
+    public void getPersonList_calledTwice_sameList() {
+        assertSame(model.getPersonList(), model.getPersonList());
+    }
+
+    @Test
+    public void getPersonList_personsDeletedAndAdded_orderUpdated() {
+        ObservableList<Person> sortedPersonList = model.getPersonList();
+
+        // deleted person added again -> moved to the end
+        model.deletePerson(BENSON);
+        model.addPerson(BENSON);
+        assertEquals(List.of(IDA, DANIEL, FIONA, ALICE, HOON, BENSON), sortedPersonList);
+
+        // all persons replaced -> ordered by their new positions
+        AddressBook reorderedAddressBook = new AddressBook();
+        reorderedAddressBook.setPersons(List.of(HOON, ALICE, BENSON));
+        model.setAddressBook(reorderedAddressBook);
+        assertEquals(List.of(HOON, ALICE, BENSON), sortedPersonList);
+    }
+
     @Test
     public void equals() {
         PersonList firstPersonList = new PersonList(model.getAddressBook().getPersonList());
@@ -0,0 +1,99 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class AddressBookLoaderTest {
+
+    private final ModelManager model = new ModelManager();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookLoader(null, unused -> new AddressBook()));
+        assertThrows(NullPointerException.class, () -> new AddressBookLoader(model, null));
+    }
+
+    @Test
+    public void addLoadedPersons_readInProgress_personsReadSoFarAdded() throws Exception {
+        CountDownLatch firstChunkRead = new CountDownLatch(1);
+        CompletableFuture<Void> rest = new CompletableFuture<>();
+        AddressBookLoader loader = new AddressBookLoader(model, loadedPersonsConsumer -> {
+            loadedPersonsConsumer.accept(List.of(ALICE));
+            firstChunkRead.countDown();
+            rest.join();
+            loadedPersonsConsumer.accept(List.of(BENSON, CARL));
+            return new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build();
+        });
+        // notified for the two chunks, then once the whole address book has been read
+        CountDownLatch readComplete = new CountDownLatch(3);
+        loader.setProgressHandler(readComplete::countDown);
+        loader.start();
+
+        firstChunkRead.await();
+        assertFalse(loader.addLoadedPersons());
+        assertEquals(List.of(ALICE), model.getAddressBook().getPersonList());
+
+        rest.complete(null);
+        readComplete.await();
+        assertTrue(loader.addLoadedPersons());
+        assertEquals(List.of(ALICE, BENSON, CARL), model.getAddressBook().getPersonList());
+        assertEquals(List.of(ALICE, BENSON, CARL), model.getAddressBookSnapshot().getPersonList());
+
+        // loading is not a change to be saved or undone
+        assertFalse(model.hasUncommittedChanges());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void addLoadedPersons_duplicatePersonRead_addressBookReadUsed() throws Exception {
+        AddressBookLoader loader = new AddressBookLoader(model, loadedPersonsConsumer -> {
+            loadedPersonsConsumer.accept(List.of(ALICE, BENSON));
+            loadedPersonsConsumer.accept(List.of(ALICE));
+            loadedPersonsConsumer.accept(List.of(CARL));
+            // as when the data file could not be loaded
+            return new AddressBook();
+        });
+        startAndAwaitRead(loader, 3);
+
+        assertTrue(loader.addLoadedPersons());
+        assertEquals(Collections.emptyList(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void addLoadedPersons_readerThrows_emptyAddressBookLoaded() throws Exception {
+        AddressBookLoader loader = new AddressBookLoader(model, loadedPersonsConsumer -> {
+            loadedPersonsConsumer.accept(List.of(ALICE));
+            throw new IllegalStateException();
+        });
+        startAndAwaitRead(loader, 1);
+
+        assertTrue(loader.addLoadedPersons());
+        assertEquals(Collections.emptyList(), model.getAddressBook().getPersonList());
+    }
+
+    /**
+     * Starts {@code loader}, and waits until its reader, which passes on {@code chunkCount} chunks, is done.
+     */
+    private static void startAndAwaitRead(AddressBookLoader loader, int chunkCount) throws InterruptedException {
+        CountDownLatch readComplete = new CountDownLatch(chunkCount + 1);
+        loader.setProgressHandler(readComplete::countDown);
+        loader.start();
+        readComplete.await();
+    }
+}
@@ -8,8 +8,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,10 +21,13 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.MeetingIndex.ScheduledMeeting;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -145,12 +150,22 @@ public class AddCommandTest {
         }
 
         @Override
-        public void deleteMeetingFromPerson(Person target, int meetingIndex) {
+        public Person deleteMeetingFromPerson(Person target, int meetingIndex) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void editMeeting(Person target, int meetingToEdit, Meeting editedMeeting) {
+        public Person editMeeting(Person target, int meetingToEdit, Meeting editedMeeting) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScheduledMeeting> getMeetingsBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScheduledMeeting> getMeetingsFrom(LocalDateTime start, int count) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -159,6 +174,56 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasUncommittedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<AddressBookChange> commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackAddressBook(ReadOnlyAddressBook committedAddressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addLoadedPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLoadedAddressBook(ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,142 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.BatchCommand.MESSAGE_LINE_FAILURE;
+import static seedu.address.logic.commands.BatchCommand.MESSAGE_NESTED_BATCH;
+import static seedu.address.logic.commands.BatchCommand.MESSAGE_UNDO_IN_BATCH;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BatchCommandTest {
+
+    private static final String ADD_AMY = "add n=Amy Bee mn=11111111 e=amy@example.com a=Block 312, Amy Street 1";
+    private static final String ADD_BOB = "add n=Bob Choo mn=22222222 e=bob@example.com a=Block 123, Bobby Street 3";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validCommands_allExecuted() throws Exception {
+        BatchCommand command = new BatchCommand(List.of(ADD_AMY, "", "# comment", ADD_BOB, "flag 1"));
+        String feedback = command.execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith("Executed 3 commands in "));
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 2, model.getAddressBook().getPersonList().size());
+        assertTrue(model.hasUncommittedChanges());
+    }
+
+    @Test
+    public void execute_commandsFromFile_allExecuted() throws Exception {
+        Path filePath = temporaryFolder.resolve("batch.txt");
+        Files.write(filePath, List.of(ADD_AMY, ADD_BOB), StandardCharsets.UTF_8);
+
+        new BatchCommand(filePath).execute(model);
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = temporaryFolder.resolve("missing.txt");
+        assertCommandFailure(new BatchCommand(filePath), model,
+                String.format(BatchCommand.MESSAGE_READ_FAILURE, filePath, filePath));
+    }
+
+    @Test
+    public void execute_invalidLine_nothingExecuted() {
+        BatchCommand command = new BatchCommand(List.of(ADD_AMY, "unknowncommand"));
+        assertCommandFailure(command, model, String.format(MESSAGE_LINE_FAILURE, 2, MESSAGE_UNKNOWN_COMMAND));
+
+        command = new BatchCommand(List.of(ADD_AMY, "batch other.txt"));
+        assertCommandFailure(command, model, String.format(MESSAGE_LINE_FAILURE, 2, MESSAGE_NESTED_BATCH));
+
+        command = new BatchCommand(List.of(ADD_AMY, UndoCommand.COMMAND_WORD));
+        assertCommandFailure(command, model, String.format(MESSAGE_LINE_FAILURE, 2, MESSAGE_UNDO_IN_BATCH));
+
+        command = new BatchCommand(List.of(RedoCommand.COMMAND_WORD));
+        assertCommandFailure(command, model, String.format(MESSAGE_LINE_FAILURE, 1, MESSAGE_UNDO_IN_BATCH));
+    }
+
+    @Test
+    public void execute_failingCommand_changesRolledBack() throws Exception {
+        // meeting commands edit persons in place, so the persons must not be shared with other tests
+        model = new ModelManager(copyOfTypicalAddressBook(), new UserPrefs());
+        Person firstPerson = model.getAddressBook().getPersonList().get(0);
+        BatchCommand command = new BatchCommand(List.of(ADD_AMY, "flag 1", "deletemt p=5 i=1", "delete 100"));
+
+        assertThrows(CommandException.class,
+                String.format(MESSAGE_LINE_FAILURE, 4, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), () ->
+                command.execute(model));
+        assertEquals(copyOfTypicalAddressBook(), model.getAddressBook());
+        assertEquals(firstPerson, model.getAddressBook().getPersonList().get(0));
+        assertFalse(model.hasUncommittedChanges());
+    }
+
+    @Test
+    public void execute_commandThrowsRuntimeException_changesRolledBackAndRethrown() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public void deletePerson(Person target) {
+                throw new IllegalStateException();
+            }
+        };
+        BatchCommand command = new BatchCommand(List.of(ADD_AMY, "delete 1"));
+
+        assertThrows(IllegalStateException.class, () -> command.execute(model));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.hasUncommittedChanges());
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand fileCommand = new BatchCommand(Path.of("batch.txt"));
+        BatchCommand linesCommand = new BatchCommand(List.of(ADD_AMY));
+
+        // same object -> returns true
+        assertTrue(fileCommand.equals(fileCommand));
+
+        // same values -> returns true
+        assertTrue(fileCommand.equals(new BatchCommand(Path.of("batch.txt"))));
+        assertTrue(linesCommand.equals(new BatchCommand(List.of(ADD_AMY))));
+
+        // different types -> returns false
+        assertFalse(fileCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(fileCommand.equals(null));
+
+        // different values -> returns false
+        assertFalse(fileCommand.equals(new BatchCommand(Path.of("other.txt"))));
+        assertFalse(fileCommand.equals(linesCommand));
+    }
+
+    private static AddressBook copyOfTypicalAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : getTypicalAddressBook().getPersonList()) {
+            addressBook.addPerson(new PersonBuilder(person).build());
+        }
+        return addressBook;
+    }
+}
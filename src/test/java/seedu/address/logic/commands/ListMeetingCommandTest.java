@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.ListMeetingCommand.MESSAGE_MEETINGS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.ListMeetingCommand.MESSAGE_MEETING_LINE;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListMeetingCommand}.
+ */
+public class ListMeetingCommandTest {
+    private static final LocalDateTime START_OF_2025 = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime END_OF_2025 = LocalDateTime.of(2025, 12, 31, 23, 59);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListMeetingCommand(END_OF_2025, START_OF_2025));
+        assertThrows(IllegalArgumentException.class, () -> new ListMeetingCommand(0));
+    }
+
+    @Test
+    public void equals() {
+        ListMeetingCommand rangeCommand = new ListMeetingCommand(START_OF_2025, END_OF_2025);
+        ListMeetingCommand countCommand = new ListMeetingCommand(3);
+
+        // same object -> returns true
+        assertTrue(rangeCommand.equals(rangeCommand));
+
+        // same values -> returns true
+        assertTrue(rangeCommand.equals(new ListMeetingCommand(START_OF_2025, END_OF_2025)));
+        assertTrue(countCommand.equals(new ListMeetingCommand(3)));
+
+        // different types -> returns false
+        assertFalse(rangeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(rangeCommand.equals(null));
+
+        // different values -> returns false
+        assertFalse(rangeCommand.equals(new ListMeetingCommand(START_OF_2025, START_OF_2025)));
+        assertFalse(rangeCommand.equals(countCommand));
+        assertFalse(countCommand.equals(new ListMeetingCommand(4)));
+    }
+
+    @Test
+    public void execute_range_meetingsInRangeListed() {
+        String expectedMessage = String.format(MESSAGE_MEETINGS_LISTED_OVERVIEW, 2) + line(1, FIONA) + line(2, ELLE);
+        assertCommandSuccess(new ListMeetingCommand(START_OF_2025, END_OF_2025), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_rangeWithoutMeetings_noMeetingsListed() {
+        LocalDateTime start = LocalDateTime.of(1999, 1, 1, 0, 0);
+        String expectedMessage = String.format(MESSAGE_MEETINGS_LISTED_OVERVIEW, 0);
+        assertCommandSuccess(new ListMeetingCommand(start, start.plusDays(1)), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_count_upcomingMeetingsListed() {
+        Clock clock = Clock.fixed(START_OF_2025.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        String expectedMessage = String.format(MESSAGE_MEETINGS_LISTED_OVERVIEW, 1) + line(1, FIONA);
+        assertCommandSuccess(new ListMeetingCommand(1, clock), model, expectedMessage, expectedModel);
+
+        clock = Clock.fixed(LocalDateTime.of(2000, 1, 1, 0, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        expectedMessage = String.format(MESSAGE_MEETINGS_LISTED_OVERVIEW, 3)
+                + line(1, CARL) + line(2, FIONA) + line(3, ELLE);
+        assertCommandSuccess(new ListMeetingCommand(10, clock), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        ListMeetingCommand command = new ListMeetingCommand(3);
+        String expected = ListMeetingCommand.class.getCanonicalName() + "{start=null, end=null, count=3}";
+        assertTrue(expected.equals(command.toString()));
+    }
+
+    private static String line(int number, Person person) {
+        return String.format(MESSAGE_MEETING_LINE, number, Messages.format(person.getMeetings().get(0)),
+                person.getName());
+    }
+}
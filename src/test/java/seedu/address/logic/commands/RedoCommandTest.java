@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_nothingToRedo_failure() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_undoneChanges_success() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+        model.undoAddressBook();
+
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.StartupProfiler;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class StartupCommandTest {
+
+    @Test
+    public void execute_phasesRecorded_showsReport() throws Exception {
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.measure("initConfig", () -> {});
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(StartupCommand.MESSAGE_SUCCESS, profiler.toJsonString());
+        assertCommandSuccess(new StartupCommand(profiler), model, expectedMessage, expectedModel);
+    }
+}
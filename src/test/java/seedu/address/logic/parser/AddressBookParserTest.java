@@ -14,6 +14,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_MEETING;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -23,6 +24,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.AddMeetingCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
@@ -37,6 +39,10 @@ import seedu.address.logic.commands.FindMeetingCommand;
 import seedu.address.logic.commands.FlagCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListMeetingCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.StartupCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnflagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.meeting.Meeting;
@@ -105,6 +111,37 @@ public class AddressBookParserTest {
         assertEquals(new FindMeetingCommand(new MeetingNameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_batch() throws Exception {
+        assertEquals(new BatchCommand(Path.of("import.txt")),
+                parser.parseCommand(BatchCommand.COMMAND_WORD + " import.txt"));
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_startup() throws Exception {
+        assertTrue(parser.parseCommand(StartupCommand.COMMAND_WORD) instanceof StartupCommand);
+        assertTrue(parser.parseCommand(StartupCommand.COMMAND_WORD + " 3") instanceof StartupCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_listMeeting() throws Exception {
+        assertEquals(new ListMeetingCommand(3), parser.parseCommand(ListMeetingCommand.COMMAND_WORD + " 3"));
+        assertEquals(new ListMeetingCommand(ListMeetingCommand.DEFAULT_COUNT),
+                parser.parseCommand(ListMeetingCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
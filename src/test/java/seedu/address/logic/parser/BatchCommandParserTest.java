@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BatchCommand;
+
+public class BatchCommandParserTest {
+
+    private BatchCommandParser parser = new BatchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_filePath_returnsBatchCommand() {
+        assertParseSuccess(parser, " data/import batch.txt ", new BatchCommand(Path.of("data/import batch.txt")));
+    }
+}
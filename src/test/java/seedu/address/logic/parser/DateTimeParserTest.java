@@ -28,6 +28,7 @@ public class DateTimeParserTest {
     private static final String INVALID_DATETIME_FORMAT_1 = "when";
     private static final String INVALID_DATETIME_FORMAT_2 = "9/2/25 1700";
     private static final String INVALID_DATETIME_FORMAT_3 = "9 May 2025 1400";
+    private static final String INVALID_DATETIME_FORMAT_MIXED_SEPARATORS = "2025-01/12 1400";
 
     private static final String INVALID_LEAP_YEAR_DATE = "29/02/2025 1400";
     private static final String DATETIME_STUB_1 = "2025-12-28T14:00:00";
@@ -97,6 +98,10 @@ public class DateTimeParserTest {
         ex = assertThrows(ParseException.class, () -> DateTimeParser.parseDateTime(INVALID_DATETIME_FORMAT_3));
         assertEquals(MESSAGE_INVALID_DATETIME_FORMAT, ex.getMessage());
 
+        ex = assertThrows(ParseException.class, () ->
+                DateTimeParser.parseDateTime(INVALID_DATETIME_FORMAT_MIXED_SEPARATORS));
+        assertEquals(MESSAGE_INVALID_DATETIME_FORMAT, ex.getMessage());
+
         ex = assertThrows(ParseException.class, () -> DateTimeParser.parseDateTime(INVALID_DATETIME_YEAR_1));
         assertEquals(MESSAGE_INVALID_YEAR, ex.getMessage());
 
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ListMeetingCommandParser.MESSAGE_START_AFTER_END;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListMeetingCommand;
+
+public class ListMeetingCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListMeetingCommand.MESSAGE_USAGE);
+
+    private ListMeetingCommandParser parser = new ListMeetingCommandParser();
+
+    @Test
+    public void parse_emptyArgs_returnsDefaultCount() {
+        assertParseSuccess(parser, "   ", new ListMeetingCommand(ListMeetingCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_count_returnsListMeetingCommand() {
+        assertParseSuccess(parser, " 5 ", new ListMeetingCommand(5));
+    }
+
+    @Test
+    public void parse_range_returnsListMeetingCommand() {
+        ListMeetingCommand expectedCommand = new ListMeetingCommand(LocalDateTime.of(2025, 11, 1, 0, 0),
+                LocalDateTime.of(2025, 11, 30, 23, 59));
+        assertParseSuccess(parser, " w=2025-11-01 0000 w=30/11/2025 23:59", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // invalid count
+        assertParseFailure(parser, " 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " five", MESSAGE_INVALID_FORMAT);
+
+        // wrong number of date times
+        assertParseFailure(parser, " w=2025-11-01 0000", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " w=2025-11-01 0000 w=2025-11-02 0000 w=2025-11-03 0000", MESSAGE_INVALID_FORMAT);
+
+        // count together with date times
+        assertParseFailure(parser, " 5 w=2025-11-01 0000 w=2025-11-02 0000", MESSAGE_INVALID_FORMAT);
+
+        // start after end
+        assertParseFailure(parser, " w=2025-11-02 0000 w=2025-11-01 0000", MESSAGE_START_AFTER_END);
+    }
+}
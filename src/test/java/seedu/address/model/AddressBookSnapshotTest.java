@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.AddressBookBuilder;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AddressBookSnapshot.copyOf(null));
+    }
+
+    @Test
+    public void copyOf_addressBookChangedLater_snapshotUnchanged() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBookSnapshot snapshot = AddressBookSnapshot.copyOf(addressBook);
+
+        addressBook.addPerson(BENSON);
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+    }
+
+    @Test
+    public void copyOf_snapshot_returnsSameSnapshot() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.copyOf(new AddressBook());
+        assertSame(snapshot, AddressBookSnapshot.copyOf(snapshot));
+    }
+
+    @Test
+    public void withChanges_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AddressBookSnapshot.copyOf(new AddressBook()).withChanges(null));
+    }
+
+    @Test
+    public void withChanges_noChanges_returnsSameSnapshot() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.copyOf(new AddressBook());
+        assertSame(snapshot, snapshot.withChanges(Collections.emptyList()));
+    }
+
+    @Test
+    public void withChanges_changes_changesMadeInOrder() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.copyOf(new AddressBookBuilder().withPerson(ALICE).build());
+        AddressBookSnapshot added = snapshot.withChanges(List.of(
+                new AddressBookChange(1, Collections.emptyList(), List.of(BENSON)),
+                new AddressBookChange(0, Collections.emptyList(), List.of(CARL))));
+        AddressBookSnapshot replaced = added.withChanges(List.of(
+                new AddressBookChange(1, List.of(ALICE, BENSON), List.of(BENSON))));
+
+        // the latest snapshot is worked out first, without affecting the earlier ones
+        assertEquals(List.of(CARL, BENSON), replaced.getPersonList());
+        assertEquals(List.of(CARL, ALICE, BENSON), added.getPersonList());
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> replaced.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.copyOf(new AddressBookBuilder().withPerson(ALICE).build());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().add(BENSON));
+    }
+}
@@ -7,18 +7,25 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.MeetingIndex;
+import seedu.address.model.person.MeetingIndex.ScheduledMeeting;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -83,6 +90,60 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getPersonIndex_personsChanged_indexUpdated() {
+        addressBook.resetData(getTypicalAddressBook());
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+
+        PersonIndex personIndex = addressBook.getPersonIndex();
+        assertEquals(Set.of(editedAlice), personIndex.getPersonsWithNameWords(List.of("Alicia", "Alice", "Benson")));
+        assertEquals(Set.of(), personIndex.getPersonsWithTagWords(List.of("owesMoney")));
+    }
+
+    @Test
+    public void setPerson_meetingRemoved_meetingNameIndexUpdated() throws Exception {
+        Person person = new PersonBuilder().withMeetings(new Meeting("Zoom meeting", "Online", "2020-11-12 1900"),
+                new Meeting("Teams meeting", "Office", "2025-11-12 1500")).build();
+        addressBook.addPerson(person);
+
+        Person editedPerson = person.withoutMeeting(0);
+        addressBook.setPerson(person, editedPerson);
+        PersonIndex personIndex = addressBook.getPersonIndex();
+        assertTrue(personIndex.getPersonsWithMeetingNameWords(List.of("Zoom")).isEmpty());
+        assertEquals(Set.of(editedPerson), personIndex.getPersonsWithMeetingNameWords(List.of("Teams")));
+
+        Person renamedPerson = editedPerson.withEditedMeeting(0, new Meeting("Townhall", "Office", "2025-11-12 1500"));
+        addressBook.setPerson(editedPerson, renamedPerson);
+        assertTrue(personIndex.getPersonsWithMeetingNameWords(List.of("Teams")).isEmpty());
+        assertEquals(Set.of(renamedPerson), personIndex.getPersonsWithMeetingNameWords(List.of("townhall")));
+    }
+
+    @Test
+    public void setPerson_meetingEdited_meetingIndexUpdated() throws Exception {
+        Meeting meeting = new Meeting("Zoom meeting", "Online", "2020-11-12 1900");
+        Person person = new PersonBuilder().withMeetings(meeting).build();
+        addressBook.addPerson(person);
+        MeetingIndex meetingIndex = addressBook.getMeetingIndex();
+        assertEquals(List.of(new ScheduledMeeting(person, meeting)),
+                meetingIndex.getMeetingsFrom(LocalDateTime.MIN, 5));
+
+        Meeting editedMeeting = new Meeting("Zoom meeting", "Online", "2030-01-01 0900");
+        Person editedPerson = person.withEditedMeeting(0, editedMeeting);
+        addressBook.setPerson(person, editedPerson);
+        assertEquals(List.of(new ScheduledMeeting(editedPerson, editedMeeting)),
+                meetingIndex.getMeetingsFrom(LocalDateTime.MIN, 5));
+
+        Person personWithoutMeetings = editedPerson.withoutMeeting(0);
+        addressBook.setPerson(editedPerson, personWithoutMeetings);
+        assertTrue(meetingIndex.getMeetingsFrom(LocalDateTime.MIN, 5).isEmpty());
+
+        addressBook.removePerson(personWithoutMeetings);
+        addressBook.addPerson(new PersonBuilder(person).withMeetings(meeting).build());
+        assertEquals(1, meetingIndex.getMeetingsFrom(LocalDateTime.MIN, 5).size());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
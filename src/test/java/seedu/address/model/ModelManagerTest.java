@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -11,12 +12,17 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +94,221 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void hasUncommittedChanges_noChanges_returnsFalse() {
+        assertFalse(modelManager.hasUncommittedChanges());
+        modelManager.updatePersonListFilter(PREDICATE_SHOW_ALL_PERSONS);
+        assertFalse(modelManager.hasUncommittedChanges());
+    }
+
+    @Test
+    public void hasUncommittedChanges_personAdded_returnsTrue() {
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.hasUncommittedChanges());
+    }
+
+    @Test
+    public void commitAddressBook_changesMade_returnsChangesInOrder() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+
+        List<AddressBookChange> expectedChanges = Arrays.asList(
+                new AddressBookChange(0, Collections.emptyList(), List.of(ALICE)),
+                new AddressBookChange(1, Collections.emptyList(), List.of(BENSON)),
+                new AddressBookChange(0, List.of(ALICE), Collections.emptyList()));
+        assertEquals(expectedChanges, modelManager.commitAddressBook());
+        assertFalse(modelManager.hasUncommittedChanges());
+        assertEquals(Collections.emptyList(), modelManager.commitAddressBook());
+    }
+
+    @Test
+    public void rollbackAddressBook_changesMade_committedDataRestored() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        AddressBook committedAddressBook = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.rollbackAddressBook(committedAddressBook);
+
+        assertEquals(committedAddressBook, modelManager.getAddressBook());
+        assertFalse(modelManager.hasUncommittedChanges());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_changesCommitted_snapshotPublished() throws Exception {
+        AddressBookSnapshot initialSnapshot = modelManager.getAddressBookSnapshot();
+        assertEquals(Collections.emptyList(), initialSnapshot.getPersonList());
+
+        modelManager.addPerson(ALICE);
+        assertSame(initialSnapshot, modelManager.getAddressBookSnapshot());
+        modelManager.commitAddressBook();
+
+        // readers on other threads see the committed persons, and later changes do not affect them
+        AddressBookSnapshot snapshot = CompletableFuture.supplyAsync(modelManager::getAddressBookSnapshot).get();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBookSnapshot().getPersonList());
+        assertEquals(Collections.emptyList(), initialSnapshot.getPersonList());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_editsAndUndoCommitted_matchesAddressBook() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withEmail("alice@example.org").build());
+        modelManager.deletePerson(BENSON);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        modelManager.commitAddressBook();
+
+        assertEquals(modelManager.getAddressBook().getPersonList(),
+                modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void addLoadedPersons_personsAdded_changesNotRecorded() {
+        modelManager.addLoadedPersons(List.of(ALICE));
+        modelManager.addLoadedPersons(List.of(BENSON));
+
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.hasUncommittedChanges());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void setLoadedAddressBook_differentPersons_addressBookReplacedAndPublished() {
+        modelManager.addLoadedPersons(List.of(ALICE));
+        AddressBook loadedAddressBook = new AddressBookBuilder().withPerson(BENSON).build();
+        modelManager.setLoadedAddressBook(loadedAddressBook);
+
+        assertEquals(loadedAddressBook, modelManager.getAddressBook());
+        assertEquals(List.of(BENSON), modelManager.getAddressBookSnapshot().getPersonList());
+        assertFalse(modelManager.hasUncommittedChanges());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_committedVersions_restoresEarlierVersions() {
+        assertFalse(modelManager.canUndoAddressBook());
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        AddressBook firstVersion = new AddressBook(modelManager.getAddressBook());
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(BENSON);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(firstVersion, modelManager.getAddressBook());
+        assertTrue(modelManager.canUndoAddressBook());
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.undoAddressBook();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_uncommittedChanges_changesUndone() {
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.canUndoAddressBook());
+        modelManager.undoAddressBook();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_changesPersisted() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.hasUncommittedChanges());
+        assertEquals(List.of(new AddressBookChange(0, List.of(ALICE), Collections.emptyList())),
+                modelManager.commitAddressBook());
+
+        // switching versions does not start a new version
+        assertTrue(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void redoAddressBook_undoneVersions_restoresLaterVersions() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+
+        modelManager.redoAddressBook();
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), modelManager.getAddressBook());
+        modelManager.redoAddressBook();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void canRedoAddressBook_newChangesAfterUndo_returnsFalse() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        modelManager.addPerson(BENSON);
+        assertFalse(modelManager.canRedoAddressBook());
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void canUndoAddressBook_moreVersionsThanLimit_oldestVersionsDropped() {
+        for (int i = 0; i < ModelManager.UNDO_LIMIT + 1; i++) {
+            modelManager.addPerson(new PersonBuilder().withPhone(String.valueOf(10000000 + i)).build());
+            modelManager.commitAddressBook();
+        }
+
+        for (int i = 0; i < ModelManager.UNDO_LIMIT; i++) {
+            modelManager.undoAddressBook();
+        }
+        assertFalse(modelManager.canUndoAddressBook());
+        assertEquals(1, modelManager.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void rollbackAddressBook_changesMade_noNewVersion() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        AddressBook committedAddressBook = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.addPerson(BENSON);
+        modelManager.rollbackAddressBook(committedAddressBook);
+        modelManager.undoAddressBook();
+
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void updatePersonListFilter_matchingPersonEdited_filterKeptInSync() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updatePersonListFilter(new NameContainsKeywordsPredicate(List.of("Alice", "Carl")));
+        assertEquals(List.of(ALICE), modelManager.getPersonList());
+
+        // edited person still matching -> still shown
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@example.org").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), modelManager.getPersonList());
+
+        // edited person now matching -> shown
+        Person editedBenson = new PersonBuilder(BENSON).withName("Carl Meier").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of(editedAlice, editedBenson), modelManager.getPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getPersonList().remove(0));
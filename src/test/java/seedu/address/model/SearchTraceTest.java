@@ -0,0 +1,92 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+public class SearchTraceTest {
+
+    private final Logger searchTraceLogger = LogsCenter.getLogger(LogsCenter.SEARCH_TRACE_LOGGER_NAME);
+    private final List<LogRecord> records = new ArrayList<>();
+    private final Handler recordingHandler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+    private Level originalLevel;
+
+    @BeforeEach
+    public void setUp() {
+        originalLevel = searchTraceLogger.getLevel();
+        searchTraceLogger.addHandler(recordingHandler);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        searchTraceLogger.removeHandler(recordingHandler);
+        searchTraceLogger.setLevel(originalLevel);
+    }
+
+    @Test
+    public void trace_predicate_sameResults() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Alice"));
+        Predicate<Person> tracedPredicate = new SearchTrace().trace(predicate);
+        assertTrue(tracedPredicate.test(ALICE));
+        assertFalse(tracedPredicate.test(BENSON));
+    }
+
+    @Test
+    public void logSummary_infoLevel_countsLoggedWithoutPersons() {
+        searchTraceLogger.setLevel(Level.INFO);
+        SearchTrace searchTrace = new SearchTrace();
+        Predicate<Person> tracedPredicate = searchTrace.trace(new NameContainsKeywordsPredicate(List.of("Alice")));
+        tracedPredicate.test(ALICE);
+        tracedPredicate.test(BENSON);
+        searchTrace.logSummary(1, 2);
+
+        assertEquals(1, records.size());
+        String summary = records.get(0).getMessage();
+        assertTrue(summary.startsWith("Search matched 1 of 2 persons in "));
+        assertTrue(summary.contains("tested 2, matched 1"));
+    }
+
+    @Test
+    public void trace_finestLevel_everyPersonLogged() {
+        searchTraceLogger.setLevel(Level.FINEST);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Alice"));
+        Predicate<Person> tracedPredicate = new SearchTrace().trace(predicate);
+        tracedPredicate.test(ALICE);
+        tracedPredicate.test(BENSON);
+
+        assertEquals(2, records.size());
+        assertTrue(records.get(0).getMessage().endsWith("on " + ALICE.getName() + ": true"));
+        assertTrue(records.get(1).getMessage().endsWith("on " + BENSON.getName() + ": false"));
+    }
+}
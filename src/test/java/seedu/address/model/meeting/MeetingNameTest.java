@@ -1,6 +1,8 @@
 package seedu.address.model.meeting;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -85,4 +87,12 @@ public class MeetingNameTest {
         // different values -> returns false
         assertFalse(name.equals(new MeetingName("Other Valid Name")));
     }
+    @Test
+    public void of_equalNames_sameMeetingName() {
+        MeetingName name = MeetingName.of("Insurance review");
+        assertSame(name, MeetingName.of(new String("Insurance review")));
+        assertNotSame(name, MeetingName.of("Annual review"));
+        assertThrows(IllegalArgumentException.class, () -> MeetingName.of(""));
+    }
+
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.meeting;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -78,4 +80,12 @@ public class VenueTest {
         // different values -> returns false
         assertFalse(venue.equals(new Venue("Other Valid Name")));
     }
+    @Test
+    public void of_equalVenues_sameVenue() {
+        Venue venue = Venue.of("AMK Hub");
+        assertSame(venue, Venue.of(new String("AMK Hub")));
+        assertNotSame(venue, Venue.of("Online"));
+        assertThrows(IllegalArgumentException.class, () -> Venue.of(""));
+    }
+
 }
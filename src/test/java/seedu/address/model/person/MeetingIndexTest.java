@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.MeetingIndex.ScheduledMeeting;
+import seedu.address.testutil.PersonBuilder;
+
+public class MeetingIndexTest {
+
+    private static final LocalDateTime START_OF_2025 = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime END_OF_2025 = LocalDateTime.of(2025, 12, 31, 23, 59);
+
+    private MeetingIndex meetingIndex;
+
+    @BeforeEach
+    public void setUp() {
+        meetingIndex = new MeetingIndex();
+        meetingIndex.add(ALICE);
+        meetingIndex.add(ELLE);
+        meetingIndex.add(CARL);
+        meetingIndex.add(FIONA);
+    }
+
+    @Test
+    public void getMeetingsBetween_range_chronologicalMeetingsReturned() {
+        assertEquals(List.of(scheduled(FIONA), scheduled(ELLE)),
+                meetingIndex.getMeetingsBetween(START_OF_2025, END_OF_2025));
+
+        // bounds are inclusive
+        LocalDateTime fionaMeeting = FIONA.getMeetings().get(0).getDateTime();
+        assertEquals(List.of(scheduled(FIONA)), meetingIndex.getMeetingsBetween(fionaMeeting, fionaMeeting));
+
+        // start after end -> no meetings
+        assertTrue(meetingIndex.getMeetingsBetween(END_OF_2025, START_OF_2025).isEmpty());
+    }
+
+    @Test
+    public void getMeetingsFrom_count_firstMeetingsReturned() {
+        assertEquals(List.of(scheduled(CARL), scheduled(FIONA)), meetingIndex.getMeetingsFrom(LocalDateTime.MIN, 2));
+        assertEquals(List.of(scheduled(FIONA), scheduled(ELLE)), meetingIndex.getMeetingsFrom(START_OF_2025, 10));
+        assertTrue(meetingIndex.getMeetingsFrom(END_OF_2025, 10).isEmpty());
+    }
+
+    @Test
+    public void getMeetingsFrom_sameDateTime_allMeetingsReturned() throws Exception {
+        Meeting meeting = new Meeting("Lunch", "Cafe", "2025-10-12 1900");
+        Person person = new PersonBuilder().withMeetings(meeting).build();
+        meetingIndex.add(person);
+        assertEquals(List.of(scheduled(FIONA), new ScheduledMeeting(person, meeting), scheduled(ELLE)),
+                meetingIndex.getMeetingsFrom(START_OF_2025, 3));
+    }
+
+    @Test
+    public void remove_indexedPerson_meetingsNoLongerReturned() {
+        meetingIndex.remove(FIONA);
+        assertEquals(List.of(scheduled(ELLE)), meetingIndex.getMeetingsBetween(START_OF_2025, END_OF_2025));
+
+        // equal but different person -> not removed
+        meetingIndex.remove(new PersonBuilder(ELLE).build());
+        assertEquals(List.of(scheduled(ELLE)), meetingIndex.getMeetingsBetween(START_OF_2025, END_OF_2025));
+    }
+
+    private static ScheduledMeeting scheduled(Person person) {
+        return new ScheduledMeeting(person, person.getMeetings().get(0));
+    }
+}
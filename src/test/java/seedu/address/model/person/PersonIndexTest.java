@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    private PersonIndex personIndex;
+
+    @BeforeEach
+    public void setUp() {
+        personIndex = new PersonIndex();
+        personIndex.add(ALICE);
+        personIndex.add(BENSON);
+        personIndex.add(CARL);
+    }
+
+    @Test
+    public void getPersonsWithNameWords_matchingWords_personsReturned() {
+        // single word
+        assertEquals(Set.of(ALICE), personIndex.getPersonsWithNameWords(List.of("Alice")));
+
+        // mixed-case words
+        assertEquals(Set.of(ALICE, BENSON), personIndex.getPersonsWithNameWords(List.of("aLiCe", "bENSON")));
+
+        // partial word -> no match
+        assertTrue(personIndex.getPersonsWithNameWords(List.of("Ali")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithTagWords_matchingWords_personsReturned() {
+        assertEquals(Set.of(ALICE, BENSON), personIndex.getPersonsWithTagWords(List.of("FRIENDS")));
+        assertEquals(Set.of(BENSON), personIndex.getPersonsWithTagWords(List.of("owesMoney")));
+    }
+
+    @Test
+    public void getPersonsWithMeetingNameWords_matchingWords_personsReturned() {
+        assertEquals(Set.of(CARL), personIndex.getPersonsWithMeetingNameWords(List.of("zoom")));
+        assertTrue(personIndex.getPersonsWithMeetingNameWords(List.of("Alice")).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_personNoLongerReturned() {
+        long version = personIndex.getVersion();
+        personIndex.remove(ALICE);
+        assertNotEquals(version, personIndex.getVersion());
+        assertEquals(Set.of(BENSON), personIndex.getPersonsWithTagWords(List.of("friends")));
+        assertTrue(personIndex.getPersonsWithNameWords(List.of("Alice")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithNameWords_equalButDifferentPerson_notReturned() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertFalse(personIndex.getPersonsWithNameWords(List.of("Alice")).contains(aliceCopy));
+    }
+
+    @Test
+    public void bind_indexedPredicate_sameResultsAsPredicate() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("alice", "carl"));
+        Predicate<Person> boundPredicate = personIndex.bind(predicate);
+        for (Person person : List.of(ALICE, BENSON, CARL)) {
+            assertEquals(predicate.test(person), boundPredicate.test(person));
+        }
+
+        // index changed -> matching persons looked up again
+        Person editedBenson = new PersonBuilder(BENSON).withName("Carl Meier").build();
+        personIndex.remove(BENSON);
+        personIndex.add(editedBenson);
+        assertTrue(boundPredicate.test(editedBenson));
+    }
+
+    @Test
+    public void bind_predicateNotInIndex_predicateReturned() {
+        Predicate<Person> predicate = person -> true;
+        assertEquals(predicate, personIndex.bind(predicate));
+
+        // tag predicate without keywords cannot be looked up in the index
+        assertTrue(personIndex.bind(new TagContainsKeywordPredicate(List.of())).test(CARL));
+    }
+}
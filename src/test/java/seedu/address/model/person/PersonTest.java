@@ -2,8 +2,9 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
@@ -13,9 +14,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.testutil.PersonBuilder;
 
@@ -25,6 +27,17 @@ public class PersonTest {
     public void asObservableList_modifyList_throwsUnsupportedOperationException() {
         Person person = new PersonBuilder().build();
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> person.getMeetings().remove(0));
+    }
+
+    @Test
+    public void constructor_fieldsOfOtherPerson_collectionsShared() {
+        Person person = new PersonBuilder(ALICE).withTags("friends", "colleagues").build();
+        Person flaggedPerson = new Person(person.getName(), person.getPhone(), person.getOtherPhones(),
+                person.getEmail(), person.getAddress(), person.getTags(), person.getMeetings(),
+                new FlagStatus(true));
+        assertSame(person.getTags(), flaggedPerson.getTags());
+        assertSame(person.getMeetings(), flaggedPerson.getMeetings());
     }
 
     @Test
@@ -99,44 +112,72 @@ public class PersonTest {
     }
 
     @Test
-    public void editMeeting_validIndex_success() {
-        Person person = null;
-        Meeting updatedMeeting = null;
-        try {
-            person = new PersonBuilder(ALICE)
-                    .withMeetings(
-                            new Meeting("Financial sharing", "AMK Hub", "2025-10-18 1400"),
-                            new Meeting("Policy revision", "Her house", "2025-12-12 1200")
-                    )
-                    .build();
-            updatedMeeting = new Meeting("Updated sharing", "Junction 8", "2026-01-10 1300");
-        } catch (ParseException ignored) {
-            // this exception can be ignored
-            fail();
-        }
-        person.editMeeting(0, updatedMeeting);
-        assertEquals(updatedMeeting, person.getMeetings().get(0));
-
-        person.editMeeting(1, updatedMeeting);
-        assertEquals(updatedMeeting, person.getMeetings().get(1));
+    public void withEditedMeeting_validIndex_success() throws Exception {
+        Person person = new PersonBuilder(ALICE)
+                .withMeetings(
+                        new Meeting("Financial sharing", "AMK Hub", "2025-10-18 1400"),
+                        new Meeting("Policy revision", "Her house", "2025-12-12 1200")
+                )
+                .build();
+        Meeting updatedMeeting = new Meeting("Updated sharing", "Junction 8", "2026-01-10 1300");
+
+        Person editedPerson = person.withEditedMeeting(0, updatedMeeting);
+        assertEquals(updatedMeeting, editedPerson.getMeetings().get(0));
+        assertSame(person.getTags(), editedPerson.getTags());
+
+        editedPerson = editedPerson.withEditedMeeting(1, updatedMeeting);
+        assertEquals(updatedMeeting, editedPerson.getMeetings().get(1));
+
+        // original person unchanged
+        assertEquals(new Meeting("Financial sharing", "AMK Hub", "2025-10-18 1400"), person.getMeetings().get(0));
     }
 
     @Test
-    public void editMeeting_negativeIndex_fail() {
+    public void withEditedMeeting_negativeIndex_fail() {
         assertThrows(AssertionError.class, () -> {
-            ALICE.editMeeting(-1, new Meeting("Updated sharing", "Junction 8",
+            ALICE.withEditedMeeting(-1, new Meeting("Updated sharing", "Junction 8",
                     "2026-01-10 1300"));
         });
     }
 
     @Test
-    public void editMeeting_indexOutOfBounds_fail() {
+    public void withEditedMeeting_indexOutOfBounds_fail() {
         assertThrows(AssertionError.class, () -> {
-            ALICE.editMeeting(2, new Meeting("Updated sharing", "Junction 8",
+            ALICE.withEditedMeeting(2, new Meeting("Updated sharing", "Junction 8",
                     "2026-01-10 1300"));
         });
     }
 
+    @Test
+    public void withAddedMeetingAndWithoutMeeting_copiesReturned() throws Exception {
+        Meeting meeting = new Meeting("Financial sharing", "AMK Hub", "2025-10-18 1400");
+        Person person = new PersonBuilder(ALICE).build();
+
+        Person personWithMeeting = person.withAddedMeeting(meeting);
+        assertEquals(List.of(meeting), personWithMeeting.getMeetings());
+        assertEquals(0, person.getMeetingCount());
+
+        Person personWithoutMeeting = personWithMeeting.withoutMeeting(0);
+        assertEquals(person, personWithoutMeeting);
+        assertEquals(1, personWithMeeting.getMeetingCount());
+        assertThrows(AssertionError.class, () -> person.withoutMeeting(0));
+    }
+
+    @Test
+    public void hashCode_equalPersons_equalHashCodes() throws Exception {
+        Meeting meeting = new Meeting("Financial sharing", "AMK Hub", "2025-10-18 1400");
+        Person person = new PersonBuilder(ALICE).withMeetings(meeting).build();
+        Person samePerson = new PersonBuilder(ALICE).withMeetings(meeting).build();
+        assertEquals(person.hashCode(), samePerson.hashCode());
+        assertEquals(person.hashCode(), person.hashCode());
+
+        // different meetings -> not equal, hash codes differ
+        Person otherMeetingPerson = person.withEditedMeeting(0, new Meeting("Policy revision", "Her house",
+                "2025-12-12 1200"));
+        assertFalse(person.equals(otherMeetingPerson));
+        assertNotEquals(person.hashCode(), otherMeetingPerson.hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
@@ -7,7 +7,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -109,6 +111,21 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_previousIdentityNoLongerContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPerson_targetHasSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +144,21 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_earlierPerson_laterPersonsCanStillBeReplaced() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, BOB);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BENSON);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +194,58 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_originalListUnchanged() {
+        uniquePersonList.add(CARL);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BENSON, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void replace_sameNumberOfPersons_personsReplaced() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        uniquePersonList.replace(1, 1, List.of(BOB));
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+
+        // the persons after the replaced ones can still be found
+        uniquePersonList.remove(CARL);
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replace_differentNumberOfPersons_laterPersonsCanStillBeReplaced() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        uniquePersonList.replace(0, 2, List.of(BOB));
+        uniquePersonList.setPerson(CARL, BENSON);
+        assertEquals(List.of(BOB, BENSON), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.replace(1, 0, List.of(ALICE, CARL));
+        uniquePersonList.remove(BENSON);
+        assertEquals(List.of(BOB, ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replace_duplicateOfRemainingPerson_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replace(1, 1, List.of(ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replace(2, 0, List.of(CARL, CARL)));
+        assertEquals(List.of(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+
+        // a replaced person can be added back
+        uniquePersonList.replace(0, 1, List.of(CARL, ALICE));
+        assertEquals(List.of(CARL, ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replace_invalidRange_throwsIndexOutOfBoundsException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.replace(1, 1, List.of(BOB)));
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.replace(-1, 0, List.of(BOB)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,73 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag COLLEAGUES = new Tag("colleagues");
+    private static final Tag FAMILY = new Tag("family");
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.copyOf(null));
+        assertThrows(NullPointerException.class, () -> TagSet.copyOf(Arrays.asList(FRIENDS, null)));
+    }
+
+    @Test
+    public void copyOf_tags_sortedByTagNameWithoutDuplicates() {
+        TagSet tagSet = TagSet.copyOf(List.of(FRIENDS, COLLEAGUES, new Tag("friends"), FAMILY));
+        assertEquals(List.of(COLLEAGUES, FAMILY, FRIENDS), new ArrayList<>(tagSet));
+    }
+
+    @Test
+    public void copyOf_tagSet_sameTagSetReturned() {
+        TagSet tagSet = TagSet.copyOf(Set.of(FRIENDS, FAMILY));
+        assertSame(tagSet, TagSet.copyOf(tagSet));
+        assertSame(TagSet.copyOf(Set.of()), TagSet.copyOf(new HashSet<>()));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.copyOf(Set.of(FRIENDS, FAMILY));
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertFalse(tagSet.contains(COLLEAGUES));
+        assertFalse(tagSet.contains(null));
+        assertFalse(tagSet.contains("friends"));
+    }
+
+    @Test
+    public void equals() {
+        TagSet tagSet = TagSet.copyOf(Set.of(FRIENDS, FAMILY));
+
+        // same tags in another set -> returns true
+        assertEquals(new HashSet<>(List.of(FAMILY, FRIENDS)), tagSet);
+        assertEquals(tagSet, new HashSet<>(List.of(FAMILY, FRIENDS)));
+        assertEquals(new HashSet<>(List.of(FAMILY, FRIENDS)).hashCode(), tagSet.hashCode());
+
+        // different tags -> returns false
+        assertFalse(tagSet.equals(Set.of(FRIENDS)));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.copyOf(Set.of(FRIENDS, FAMILY));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(COLLEAGUES));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, tagSet::clear);
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+}
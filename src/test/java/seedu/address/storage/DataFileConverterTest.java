@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class DataFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_identicalDataFile() throws Exception {
+        JsonAddressBookStorage original = new JsonAddressBookStorage(testFolder.resolve("original.json"));
+        BinaryAddressBookStorage binary = new BinaryAddressBookStorage(testFolder.resolve("converted.bin"));
+        JsonAddressBookStorage convertedBack = new JsonAddressBookStorage(testFolder.resolve("convertedBack.json"));
+        original.saveAddressBook(getTypicalAddressBook());
+
+        DataFileConverter.convert(original, binary);
+        assertEquals(getTypicalAddressBook(), new AddressBook(binary.readAddressBook().get()));
+
+        DataFileConverter.convert(binary, convertedBack);
+        assertArrayEquals(Files.readAllBytes(original.getAddressBookFilePath()),
+                Files.readAllBytes(convertedBack.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convert_missingSourceFile_throwsNoSuchFileException() {
+        JsonAddressBookStorage source = new JsonAddressBookStorage(testFolder.resolve("missing.json"));
+        BinaryAddressBookStorage target = new BinaryAddressBookStorage(testFolder.resolve("target.bin"));
+        assertThrows(NoSuchFileException.class, () -> DataFileConverter.convert(source, target));
+    }
+
+    @Test
+    public void convert_nullStorage_throwsNullPointerException() {
+        BinaryAddressBookStorage target = new BinaryAddressBookStorage(testFolder.resolve("target.bin"));
+        assertThrows(NullPointerException.class, () -> DataFileConverter.convert(null, target));
+    }
+}
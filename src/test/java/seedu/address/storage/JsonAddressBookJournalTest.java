@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFilePath;
+    private JsonAddressBookJournal journal;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(getTypicalAddressBook());
+        journal = new JsonAddressBookJournal(JsonAddressBookJournal.getJournalFilePath(dataFilePath));
+    }
+
+    @Test
+    public void getJournalFilePath_dataFilePath_journalNextToDataFile() {
+        assertEquals(Paths.get("data", "addressbook.json.journal"),
+                JsonAddressBookJournal.getJournalFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void replay_noJournal_returnsAddressBookUnchanged() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        assertEquals(original, journal.replay(original, dataFilePath));
+        assertEquals(0, journal.getChangeCount());
+    }
+
+    @Test
+    public void replay_appendedChanges_changesApplied() throws Exception {
+        Person editedAlice = new PersonBuilder(ALICE).withTags("colleague").build();
+        journal.append(List.of(new AddressBookChange(0, List.of(ALICE), List.of(editedAlice))), dataFilePath);
+        journal.append(List.of(new AddressBookChange(1, List.of(BENSON), Collections.emptyList()),
+                new AddressBookChange(6, Collections.emptyList(), List.of(HOON))), dataFilePath);
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.setPerson(ALICE, editedAlice);
+        expected.removePerson(BENSON);
+        expected.addPerson(HOON);
+
+        JsonAddressBookJournal reopenedJournal = new JsonAddressBookJournal(journal.getJournalFilePath());
+        assertEquals(expected, reopenedJournal.replay(getTypicalAddressBook(), dataFilePath));
+        assertEquals(3, reopenedJournal.getChangeCount());
+    }
+
+    @Test
+    public void replay_dataFileRewrittenAfterJournalStarted_journalDiscarded() throws Exception {
+        journal.append(List.of(new AddressBookChange(1, List.of(BENSON), Collections.emptyList())), dataFilePath);
+        AddressBook rewritten = new AddressBook();
+        rewritten.addPerson(ALICE);
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(rewritten);
+
+        assertEquals(rewritten, journal.replay(rewritten, dataFilePath));
+        assertFalse(Files.exists(journal.getJournalFilePath()));
+    }
+
+    @Test
+    public void replay_incompleteLastLine_lastLineIgnored() throws Exception {
+        journal.append(List.of(new AddressBookChange(1, List.of(BENSON), Collections.emptyList())), dataFilePath);
+        Files.write(journal.getJournalFilePath(), "{\"from\":0,\"remo".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.removePerson(BENSON);
+        assertEquals(expected, journal.replay(getTypicalAddressBook(), dataFilePath));
+    }
+
+    @Test
+    public void replay_changeOutOfRange_throwsDataLoadingException() throws Exception {
+        journal.append(List.of(new AddressBookChange(100, Collections.emptyList(), List.of(HOON))), dataFilePath);
+        assertThrows(DataLoadingException.class, () -> journal.replay(getTypicalAddressBook(), dataFilePath));
+    }
+
+    @Test
+    public void replay_changeAddsDuplicatePerson_throwsDataLoadingException() throws Exception {
+        journal.append(List.of(new AddressBookChange(0, Collections.emptyList(), List.of(BENSON))), dataFilePath);
+        assertThrows(DataLoadingException.class, () -> journal.replay(getTypicalAddressBook(), dataFilePath));
+    }
+
+    @Test
+    public void clear_appendedChanges_journalDeleted() throws Exception {
+        journal.append(List.of(new AddressBookChange(1, List.of(BENSON), Collections.emptyList())), dataFilePath);
+        journal.clear();
+        assertFalse(Files.exists(journal.getJournalFilePath()));
+        assertEquals(0, journal.getChangeCount());
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookSerializerTest {
+
+    private final JsonAddressBookSerializer serializer = new JsonAddressBookSerializer();
+
+    @Test
+    public void toJsonBytes_emptyAddressBook_sameAsJsonUtil() throws Exception {
+        assertSameAsJsonUtil(new AddressBook());
+    }
+
+    @Test
+    public void toJsonBytes_typicalAddressBook_sameAsJsonUtil() throws Exception {
+        assertSameAsJsonUtil(getTypicalAddressBook());
+        assertSameAsJsonUtil(SampleDataUtil.getSampleAddressBook());
+    }
+
+    @Test
+    public void toJsonBytes_unchangedPersons_notSerializedAgain() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        int personCount = addressBook.getPersonList().size();
+        assertSameAsJsonUtil(addressBook);
+        assertEquals(personCount, serializer.getLastSerializedCount());
+
+        assertSameAsJsonUtil(addressBook);
+        assertEquals(0, serializer.getLastSerializedCount());
+
+        // edited and added persons -> only those serialized
+        Person editedAlice = new PersonBuilder(ALICE).withTags("husband").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.addPerson(HOON);
+        assertSameAsJsonUtil(addressBook);
+        assertEquals(2, serializer.getLastSerializedCount());
+
+        // removed person -> no longer remembered
+        addressBook.removePerson(editedAlice);
+        assertSameAsJsonUtil(addressBook);
+        addressBook.addPerson(editedAlice);
+        assertSameAsJsonUtil(addressBook);
+        assertEquals(1, serializer.getLastSerializedCount());
+    }
+
+    private void assertSameAsJsonUtil(ReadOnlyAddressBook addressBook) throws Exception {
+        byte[] expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook))
+                .getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, serializer.toJsonBytes(addressBook));
+    }
+}
@@ -3,11 +3,14 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
@@ -19,6 +22,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path UNKNOWN_FIELDS_FILE = TEST_DATA_FOLDER.resolve("unknownFieldsAddressBook.json");
+    private static final Path PERSONS_NOT_ARRAY_FILE = TEST_DATA_FOLDER.resolve("personsNotArrayAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +49,40 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_fieldsIgnored() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(UNKNOWN_FIELDS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_personsNotArray_throwsIoException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(PERSONS_NOT_ARRAY_FILE)) {
+            assertThrows(IOException.class, () -> JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
 }
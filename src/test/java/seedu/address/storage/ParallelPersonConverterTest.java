@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    // more persons than fit in a few chunks, so that conversions overlap
+    private static final int PERSON_COUNT = 5 * ParallelPersonConverter.CHUNK_SIZE + 7;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void shutDownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void toAddressBook_noPersons_returnsEmptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), new ParallelPersonConverter(pool, unused -> {}).toAddressBook());
+    }
+
+    @Test
+    public void toAddressBook_manyChunks_personsInOrder() throws Exception {
+        List<Person> persons = createPersons();
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool, unused -> {});
+        persons.forEach(person -> converter.add(new JsonAdaptedPerson(person)));
+
+        assertEquals(persons, converter.toAddressBook().getPersonList());
+    }
+
+    @Test
+    public void add_manyChunks_convertedPersonsPassedOnInOrder() throws Exception {
+        List<Person> persons = createPersons();
+        List<Person> convertedPersons = new ArrayList<>();
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool, chunk -> {
+            assertTrue(chunk.size() <= ParallelPersonConverter.CHUNK_SIZE);
+            convertedPersons.addAll(chunk);
+        });
+        persons.forEach(person -> converter.add(new JsonAdaptedPerson(person)));
+        converter.toAddressBook();
+
+        assertEquals(persons, convertedPersons);
+    }
+
+    @Test
+    public void add_invalidPerson_noLaterPersonsPassedOn() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = toJsonAdaptedPersons(createPersons());
+        jsonAdaptedPersons.set(ParallelPersonConverter.CHUNK_SIZE + 1, createInvalidPerson());
+        List<Person> convertedPersons = new ArrayList<>();
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool, convertedPersons::addAll);
+        jsonAdaptedPersons.forEach(converter::add);
+
+        assertThrows(IllegalValueException.class, converter::toAddressBook);
+        assertEquals(ParallelPersonConverter.CHUNK_SIZE + 1, convertedPersons.size());
+    }
+
+    @Test
+    public void toAddressBook_invalidPersonInLaterChunk_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = toJsonAdaptedPersons(createPersons());
+        jsonAdaptedPersons.set(PERSON_COUNT - 3, createInvalidPerson());
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> convert(jsonAdaptedPersons));
+    }
+
+    @Test
+    public void toAddressBook_duplicateBeforeInvalidPerson_duplicateReported() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = toJsonAdaptedPersons(createPersons());
+        jsonAdaptedPersons.set(ParallelPersonConverter.CHUNK_SIZE + 1, jsonAdaptedPersons.get(0));
+        jsonAdaptedPersons.set(3 * ParallelPersonConverter.CHUNK_SIZE, createInvalidPerson());
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                convert(jsonAdaptedPersons));
+    }
+
+    @Test
+    public void toAddressBook_invalidPersonBeforeDuplicate_invalidPersonReported() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = toJsonAdaptedPersons(createPersons());
+        jsonAdaptedPersons.set(ParallelPersonConverter.CHUNK_SIZE + 1, createInvalidPerson());
+        jsonAdaptedPersons.set(3 * ParallelPersonConverter.CHUNK_SIZE, jsonAdaptedPersons.get(0));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> convert(jsonAdaptedPersons));
+    }
+
+    private AddressBook convert(List<JsonAdaptedPerson> jsonAdaptedPersons) throws IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool, unused -> {});
+        jsonAdaptedPersons.forEach(converter::add);
+        return converter.toAddressBook();
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(80000000 + i)).build());
+        }
+        return persons;
+    }
+
+    private static List<JsonAdaptedPerson> toJsonAdaptedPersons(List<Person> persons) {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        persons.forEach(person -> jsonAdaptedPersons.add(new JsonAdaptedPerson(person)));
+        return jsonAdaptedPersons;
+    }
+
+    private static JsonAdaptedPerson createInvalidPerson() {
+        return new JsonAdaptedPerson("R@chel", "99999999", "", "rachel@example.com", "Rachel Street",
+                Collections.emptyList(), Collections.emptyList(), false);
+    }
+}
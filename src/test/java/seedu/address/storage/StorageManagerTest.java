@@ -1,10 +1,20 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +22,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
@@ -60,9 +71,174 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBookChanges_journalEnabled_changesJournaledThenFlushed() throws Exception {
+        Path addressBookFilePath = getTempFilePath("journaled.json");
+        Path journalFilePath = JsonAddressBookJournal.getJournalFilePath(addressBookFilePath);
+        StorageManager journaledStorageManager = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new JsonAddressBookJournal(journalFilePath));
+
+        // data file missing -> whole address book saved
+        AddressBook original = getTypicalAddressBook();
+        journaledStorageManager.saveAddressBookChanges(original,
+                List.of(new AddressBookChange(0, Collections.emptyList(), original.getPersonList())));
+        assertTrue(Files.exists(addressBookFilePath));
+        assertFalse(Files.exists(journalFilePath));
+
+        // small change -> only journaled
+        String savedData = Files.readString(addressBookFilePath);
+        original.addPerson(HOON);
+        journaledStorageManager.saveAddressBookChanges(original,
+                List.of(new AddressBookChange(7, Collections.emptyList(), List.of(HOON))));
+        assertEquals(savedData, Files.readString(addressBookFilePath));
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(journaledStorageManager.readAddressBook().get()));
+
+        // flush -> journal merged into data file
+        original.removePerson(ALICE);
+        journaledStorageManager.saveAddressBookChanges(original,
+                List.of(new AddressBookChange(0, List.of(ALICE), Collections.emptyList())));
+        journaledStorageManager.flushAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        ReadOnlyAddressBook merged = new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(merged));
+    }
+
+    @Test
+    public void saveAddressBookChanges_journalDisabled_addressBookSaved() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBookChanges(original,
+                List.of(new AddressBookChange(0, Collections.emptyList(), List.of(ALICE))));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_backgroundSaveEnabled_savedAfterFlush() throws Exception {
+        Path addressBookFilePath = getTempFilePath("background.json");
+        StorageManager backgroundStorageManager = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), null, true);
+
+        AddressBook original = getTypicalAddressBook();
+        backgroundStorageManager.saveAddressBookChanges(original,
+                List.of(new AddressBookChange(0, Collections.emptyList(), original.getPersonList())));
+        AddressBook saved = new AddressBook(original);
+
+        // later changes to the model do not affect the queued save
+        original.addPerson(HOON);
+        backgroundStorageManager.flushAddressBook(saved);
+        ReadOnlyAddressBook retrieved = new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get();
+        assertEquals(saved, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void saveAddressBookChanges_backgroundSaveFails_failureReported() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new IoExceptionThrowingAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), null, true);
+        CompletableFuture<IOException> reportedFailure = new CompletableFuture<>();
+        backgroundStorageManager.setSaveFailureHandler(reportedFailure::complete);
+
+        AddressBook original = getTypicalAddressBook();
+        List<AddressBookChange> changes = List.of(new AddressBookChange(0, Collections.emptyList(), List.of(ALICE)));
+        backgroundStorageManager.saveAddressBookChanges(original, changes);
+        assertNotNull(reportedFailure.get());
+
+        // the failure is not reported again by the next save, whose changes have already been made
+        CompletableFuture<IOException> nextReportedFailure = new CompletableFuture<>();
+        backgroundStorageManager.setSaveFailureHandler(nextReportedFailure::complete);
+        backgroundStorageManager.saveAddressBookChanges(original, changes);
+        assertNotNull(nextReportedFailure.get());
+
+        // flush waits for the background save, then fails to save the address book itself
+        assertThrows(IOException.class, () -> backgroundStorageManager.flushAddressBook(original));
+    }
+
+    @Test
+    public void saveAddressBookChanges_backgroundSaveSucceedsAfterFailure_recoveryReported() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new FailingOnceAddressBookStorage(getTempFilePath("recovered.json")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), null, true);
+        CompletableFuture<IOException> reportedFailure = new CompletableFuture<>();
+        CompletableFuture<Void> reportedRecovery = new CompletableFuture<>();
+        backgroundStorageManager.setSaveFailureHandler(reportedFailure::complete);
+        backgroundStorageManager.setSaveRecoveryHandler(() -> reportedRecovery.complete(null));
+
+        AddressBook original = getTypicalAddressBook();
+        List<AddressBookChange> changes = List.of(new AddressBookChange(0, Collections.emptyList(), List.of(ALICE)));
+        backgroundStorageManager.saveAddressBookChanges(original, changes);
+        assertNotNull(reportedFailure.get());
+        assertFalse(reportedRecovery.isDone());
+
+        backgroundStorageManager.saveAddressBookChanges(original, changes);
+        backgroundStorageManager.flushAddressBook(original);
+        assertTrue(reportedRecovery.isDone());
+    }
+
+    @Test
+    public void saveAddressBookChanges_backgroundSaveThrowsRuntimeException_failureReported() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new RuntimeExceptionThrowingAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), null, true);
+        CompletableFuture<IOException> reportedFailure = new CompletableFuture<>();
+        backgroundStorageManager.setSaveFailureHandler(reportedFailure::complete);
+
+        AddressBook original = getTypicalAddressBook();
+        List<AddressBookChange> changes = List.of(new AddressBookChange(0, Collections.emptyList(), List.of(ALICE)));
+        backgroundStorageManager.saveAddressBookChanges(original, changes);
+        assertTrue(reportedFailure.get().getCause() instanceof IllegalStateException);
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    /**
+     * A {@code JsonAddressBookStorage} that throws an {@code IOException} the first time it saves.
+     */
+    private static class FailingOnceAddressBookStorage extends JsonAddressBookStorage {
+        private boolean hasFailed;
+
+        private FailingOnceAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (!hasFailed) {
+                hasFailed = true;
+                throw new IOException("Dummy IOException");
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that throws an {@code IOException} when saving.
+     */
+    private static class IoExceptionThrowingAddressBookStorage extends JsonAddressBookStorage {
+        private IoExceptionThrowingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            throw new IOException("Dummy IOException");
+        }
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that throws a {@code RuntimeException} when saving.
+     */
+    private static class RuntimeExceptionThrowingAddressBookStorage extends JsonAddressBookStorage {
+        private RuntimeExceptionThrowingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new IllegalStateException("Dummy RuntimeException");
+        }
+    }
+
 }
@@ -164,4 +164,29 @@ public class PersonCardTest {
         assertEquals(String.format("%d. %s", INDEX_SECOND_MEETING.getOneBased(), meetingTwo),
                 meetingTwoLabel.getText());
     }
+
+    @Test
+    public void setPerson_otherPerson_showsOtherPersonDetails(FxRobot robot) {
+        Person flaggedPerson = new PersonBuilder()
+                .withName(DISPLAY_NAME_STUB)
+                .withTags(TAG_ONE, TAG_TWO)
+                .withMeetings(meetingOne, meetingTwo)
+                .withFlagStatus(true).build();
+        PersonCard card = new PersonCard(flaggedPerson, DISPLAY_INDEX_STUB);
+        showCardInStage(robot, card);
+
+        robot.interact(() -> {
+            card.setPerson(TypicalPersons.AMY, DISPLAY_INDEX_STUB + 1);
+            card.setPerson(flaggedPerson, DISPLAY_INDEX_STUB);
+            card.setPerson(TypicalPersons.AMY, DISPLAY_INDEX_STUB + 1);
+        });
+
+        assertEquals(TypicalPersons.AMY, card.getPerson());
+        assertEquals(String.format("%d. ", DISPLAY_INDEX_STUB + 1), card.getId().getText());
+        assertEquals(TypicalPersons.AMY.getName().fullName, card.getName().getText());
+        assertEquals(TypicalPersons.AMY.getTags().size(), card.getTags().getChildren().size());
+        assertEquals(TypicalPersons.AMY.getMeetingCount(), card.getMeetings().getChildren().size());
+        assertFalse(card.getFlag().isVisible());
+        assertFalse(card.getCardPane().getStyleClass().contains(FLAGGED_STYLE_CLASS));
+    }
 }